@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Decodes many independent inputs, such as the results of a page of <code>eth_call</code> or <code>
+ * eth_getLogs</code> responses, by splitting them into contiguous chunks which are decoded
+ * concurrently on an {@link Executor}. The decoded values keep the order of their inputs.
+ *
+ * <p>The calling thread decodes one of the chunks itself, and small inputs are decoded on the
+ * calling thread only, where the cost of handing off work would outweigh decoding it.
+ */
+public final class BulkDecoder {
+
+    /** Fewest inputs decoded by a single task. */
+    static final int MIN_CHUNK_SIZE = 32;
+
+    /** Chunks per thread, so that threads finishing early can take on remaining work. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private BulkDecoder() {}
+
+    /**
+     * Decode each of the inputs on the common {@link ForkJoinPool}.
+     *
+     * @param inputs values to decode
+     * @param decoder decodes a single input, which must be safe to call from multiple threads
+     * @param <T> input type
+     * @param <R> decoded type
+     * @return decoded values, in the order of their inputs
+     */
+    public static <T, R> List<R> decodeAll(
+            List<? extends T> inputs, Function<? super T, ? extends R> decoder) {
+        return decodeAll(inputs, decoder, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decode each of the inputs on the given executor.
+     *
+     * @param inputs values to decode
+     * @param decoder decodes a single input, which must be safe to call from multiple threads
+     * @param executor runs decoding tasks
+     * @param <T> input type
+     * @param <R> decoded type
+     * @return decoded values, in the order of their inputs
+     * @throws RuntimeException the first exception thrown by the decoder
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> List<R> decodeAll(
+            List<? extends T> inputs, Function<? super T, ? extends R> decoder, Executor executor) {
+        int size = inputs.size();
+        int chunkCount = Math.min(size / MIN_CHUNK_SIZE, parallelism(executor) * CHUNKS_PER_THREAD);
+        if (chunkCount <= 1) {
+            List<R> results = new ArrayList<>(size);
+            for (T input : inputs) {
+                results.add(decoder.apply(input));
+            }
+            return Collections.unmodifiableList(results);
+        }
+        List<? extends T> values =
+                inputs instanceof RandomAccess ? inputs : new ArrayList<>(inputs);
+
+        Object[] results = new Object[size];
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[chunkCount - 1];
+        for (int i = 0; i < tasks.length; i++) {
+            int from = chunkStart(i, chunkCount, size);
+            int to = chunkStart(i + 1, chunkCount, size);
+            tasks[i] =
+                    CompletableFuture.runAsync(
+                            () -> decode(values, from, to, decoder, results), executor);
+        }
+        decode(values, chunkStart(tasks.length, chunkCount, size), size, decoder, results);
+
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return Collections.unmodifiableList((List<R>) Arrays.asList(results));
+    }
+
+    private static <T, R> void decode(
+            List<? extends T> inputs,
+            int from,
+            int to,
+            Function<? super T, ? extends R> decoder,
+            Object[] results) {
+        for (int i = from; i < to; i++) {
+            results[i] = decoder.apply(inputs.get(i));
+        }
+    }
+
+    private static int chunkStart(int chunk, int chunkCount, int size) {
+        return (int) ((long) chunk * size / chunkCount);
+    }
+
+    private static int parallelism(Executor executor) {
+        if (executor instanceof ForkJoinPool) {
+            // CompletableFuture runs each task on a new thread rather than on a common pool
+            // without parallelism, as on a single processor, so decode on the calling thread
+            return executor == ForkJoinPool.commonPool()
+                            && ForkJoinPool.getCommonPoolParallelism() <= 1
+                    ? 0
+                    : ((ForkJoinPool) executor).getParallelism();
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
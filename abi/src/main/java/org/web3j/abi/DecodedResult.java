@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.util.AbstractList;
+
+import org.web3j.abi.datatypes.Type;
+
+/**
+ * Return values of a function which are decoded on demand. Creating the view only records the
+ * encoded input; each value is decoded the first time it is read with {@link #get(int)} and then
+ * kept, so reading one of many outputs costs the decoding of that output alone.
+ *
+ * <p>Malformed input is only detected when the affected value is read. Instances are not safe for
+ * use from multiple threads without external synchronization.
+ *
+ * @see FunctionReturnDecoder#decodeLazily(String, java.util.List)
+ */
+public final class DecodedResult extends AbstractList<Type> {
+
+    private final byte[] input;
+    private final ReturnValuesDecoder decoder;
+    private final Type[] values;
+
+    DecodedResult(byte[] input, ReturnValuesDecoder decoder) {
+        this.input = input;
+        this.decoder = decoder;
+        this.values = new Type[input.length == 0 ? 0 : decoder.size()];
+    }
+
+    @Override
+    public Type get(int index) {
+        Type value = values[index];
+        if (value == null) {
+            value = decoder.decode(input, 0, index);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns whether the value at the given position has already been decoded.
+     *
+     * @param index position of the value among the outputs
+     * @return true if {@link #get(int)} will not decode the value again
+     */
+    public boolean isDecoded(int index) {
+        return values[index] != null;
+    }
+}
@@ -12,24 +12,20 @@
  */
 package org.web3j.abi;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 import org.web3j.abi.datatypes.Array;
 import org.web3j.abi.datatypes.Bytes;
 import org.web3j.abi.datatypes.BytesType;
-import org.web3j.abi.datatypes.DynamicArray;
-import org.web3j.abi.datatypes.DynamicBytes;
-import org.web3j.abi.datatypes.StaticArray;
+import org.web3j.abi.datatypes.StructType;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.datatypes.Utf8String;
 import org.web3j.abi.datatypes.generated.Bytes32;
 import org.web3j.utils.Numeric;
 import org.web3j.utils.Strings;
 
-import static org.web3j.abi.TypeDecoder.MAX_BYTE_LENGTH_FOR_HEX_STRING;
-
 /**
  * Ethereum Contract Application Binary Interface (ABI) encoding for functions. Further details are
  * available <a href="https://github.com/ethereum/wiki/wiki/Ethereum-Contract-ABI">here</a>.
@@ -39,94 +35,63 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
     public List<Type> decodeFunctionResult(
             String rawInput, List<TypeReference<Type>> outputParameters) {
 
-        String input = Numeric.cleanHexPrefix(rawInput);
+        if (Strings.isEmpty(rawInput)) {
+            return Collections.emptyList();
+        }
+
+        byte[] input = Numeric.hexStringToByteArray(rawInput);
 
-        if (Strings.isEmpty(input)) {
+        if (input.length == 0) {
             return Collections.emptyList();
         } else {
-            return build(input, outputParameters);
+            return ReturnValuesDecoder.of(outputParameters).decode(input);
+        }
+    }
+
+    @Override
+    public List<Type> decodeFunctionResultLazily(
+            String rawInput, List<TypeReference<Type>> outputParameters) {
+
+        if (Strings.isEmpty(rawInput)) {
+            return Collections.emptyList();
         }
+
+        return new DecodedResult(
+                Numeric.hexStringToByteArray(rawInput), ReturnValuesDecoder.of(outputParameters));
+    }
+
+    @Override
+    protected Function<String, List<Type>> resultDecoder(
+            List<TypeReference<Type>> outputParameters) {
+        ReturnValuesDecoder decoder = ReturnValuesDecoder.of(outputParameters);
+        return rawInput ->
+                Strings.isEmpty(rawInput)
+                        ? Collections.emptyList()
+                        : decoder.decode(Numeric.hexStringToByteArray(rawInput));
     }
 
     @SuppressWarnings("unchecked")
     public <T extends Type> Type decodeEventParameter(
             String rawInput, TypeReference<T> typeReference) {
 
-        String input = Numeric.cleanHexPrefix(rawInput);
+        byte[] input = Numeric.hexStringToByteArray(rawInput);
 
         try {
             Class<T> type = typeReference.getClassType();
 
             if (Bytes.class.isAssignableFrom(type)) {
                 Class<Bytes> bytesClass = (Class<Bytes>) Class.forName(type.getName());
-                return TypeDecoder.decodeBytes(input, bytesClass);
+                return TypeDecoder.decodeBytes(input, 0, bytesClass);
             } else if (Array.class.isAssignableFrom(type)
                     || BytesType.class.isAssignableFrom(type)
-                    || Utf8String.class.isAssignableFrom(type)) {
-                return TypeDecoder.decodeBytes(input, Bytes32.class);
+                    || Utf8String.class.isAssignableFrom(type)
+                    || StructType.class.isAssignableFrom(type)) {
+                return TypeDecoder.decodeBytes(input, 0, Bytes32.class);
             } else {
-                return TypeDecoder.decode(input, type);
+                return TypeDecoder.decode(input, 0, type);
             }
         } catch (ClassNotFoundException e) {
             throw new UnsupportedOperationException("Invalid class reference provided", e);
         }
     }
-
-    private static List<Type> build(String input, List<TypeReference<Type>> outputParameters) {
-        List<Type> results = new ArrayList<>(outputParameters.size());
-
-        int offset = 0;
-        for (TypeReference<?> typeReference : outputParameters) {
-            try {
-                @SuppressWarnings("unchecked")
-                Class<Type> type = (Class<Type>) typeReference.getClassType();
-
-                int hexStringDataOffset = getDataOffset(input, offset, type);
-
-                Type result;
-                if (DynamicArray.class.isAssignableFrom(type)) {
-                    result =
-                            TypeDecoder.decodeDynamicArray(
-                                    input, hexStringDataOffset, typeReference);
-                    offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
-
-                } else if (typeReference instanceof TypeReference.StaticArrayTypeReference) {
-                    int length = ((TypeReference.StaticArrayTypeReference) typeReference).getSize();
-                    result =
-                            TypeDecoder.decodeStaticArray(
-                                    input, hexStringDataOffset, typeReference, length);
-                    offset += length * MAX_BYTE_LENGTH_FOR_HEX_STRING;
-
-                } else if (StaticArray.class.isAssignableFrom(type)) {
-                    int length =
-                            Integer.parseInt(
-                                    type.getSimpleName()
-                                            .substring(StaticArray.class.getSimpleName().length()));
-                    result =
-                            TypeDecoder.decodeStaticArray(
-                                    input, hexStringDataOffset, typeReference, length);
-                    offset += length * MAX_BYTE_LENGTH_FOR_HEX_STRING;
-
-                } else {
-                    result = TypeDecoder.decode(input, hexStringDataOffset, type);
-                    offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
-                }
-                results.add(result);
-
-            } catch (ClassNotFoundException e) {
-                throw new UnsupportedOperationException("Invalid class reference provided", e);
-            }
-        }
-        return results;
-    }
-
-    private static <T extends Type> int getDataOffset(String input, int offset, Class<T> type) {
-        if (DynamicBytes.class.isAssignableFrom(type)
-                || Utf8String.class.isAssignableFrom(type)
-                || DynamicArray.class.isAssignableFrom(type)) {
-            return TypeDecoder.decodeUintAsInt(input, offset) << 1;
-        } else {
-            return offset;
-        }
-    }
 }
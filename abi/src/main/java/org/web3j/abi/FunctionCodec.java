@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.utils.Numeric;
+
+/**
+ * Encoder and decoder for one function shape: its name, input types and output types. The method
+ * signature, the 4 byte method id and the decoders of the return values are computed once, the
+ * decoders when the first result is decoded, so encoding a call or decoding its result only
+ * serializes the values.
+ *
+ * <p>Instances are immutable and cached, see {@link #of(Function)}.
+ */
+public final class FunctionCodec {
+
+    /** Maximum number of function shapes kept by {@link #of(Function)}. */
+    public static final int CACHE_SIZE = 1024;
+
+    private static final LruCache<List<String>, FunctionCodec> CACHE = new LruCache<>(CACHE_SIZE);
+
+    private static final LruCache<String, byte[]> METHOD_IDS = new LruCache<>(CACHE_SIZE);
+
+    private final String methodSignature;
+    private final byte[] methodId;
+    private final List<TypeReference<Type>> outputParameters;
+    private volatile ReturnValuesDecoder returnValuesDecoder;
+
+    private FunctionCodec(String methodSignature, List<TypeReference<Type>> outputParameters) {
+        this.methodSignature = methodSignature;
+        this.methodId = methodId(methodSignature);
+        this.outputParameters = new ArrayList<>(outputParameters);
+    }
+
+    /**
+     * Returns the codec for the shape of the given function, compiling it if it is not among the
+     * {@link #CACHE_SIZE} most recently used ones. The parameter values of the function are not
+     * retained.
+     *
+     * @param function to get the codec for
+     * @return codec for functions with the same name, input types and output types
+     */
+    public static FunctionCodec of(Function function) {
+        String methodSignature =
+                FunctionEncoder.buildMethodSignature(
+                        function.getName(), function.getInputParameters());
+        List<TypeReference<Type>> outputParameters = function.getOutputParameters();
+
+        return CACHE.computeIfAbsent(
+                Arrays.asList(methodSignature, ReturnValuesDecoder.key(outputParameters)),
+                k -> new FunctionCodec(methodSignature, outputParameters));
+    }
+
+    /**
+     * Returns the 4 byte method id of the given signature, hashing it only if it is not among the
+     * {@link #CACHE_SIZE} most recently used ones. The returned array must not be modified.
+     *
+     * @param methodSignature function name followed by its parameter types
+     * @return method id
+     */
+    static byte[] methodId(String methodSignature) {
+        return METHOD_IDS.computeIfAbsent(methodSignature, FunctionEncoder::buildMethodIdBytes);
+    }
+
+    public String getMethodSignature() {
+        return methodSignature;
+    }
+
+    /**
+     * Returns the hex encoded method id, the first 4 bytes of the Keccak-256 hash of the method
+     * signature.
+     *
+     * @return method id with 0x prefix
+     */
+    public String getMethodId() {
+        return Numeric.toHexString(methodId);
+    }
+
+    /**
+     * Encode a call to this function.
+     *
+     * @param inputParameters values matching the input types of this function
+     * @return hex encoded method id and parameters, as returned by {@link
+     *     FunctionEncoder#encode(Function)}
+     */
+    public String encode(List<Type> inputParameters) {
+        return Numeric.toHexString(encodeToBytes(inputParameters));
+    }
+
+    /**
+     * Encode a call to this function.
+     *
+     * @param inputParameters values matching the input types of this function
+     * @return method id followed by the encoded parameters
+     */
+    public byte[] encodeToBytes(List<Type> inputParameters) {
+        return DefaultFunctionEncoder.encodeParameters(inputParameters, methodId);
+    }
+
+    /**
+     * Decode the values returned by this function.
+     *
+     * @param rawInput ABI encoded return values
+     * @return decoded values, or an empty list if the input is empty
+     */
+    public List<Type> decode(String rawInput) {
+        return decode(Numeric.hexStringToByteArray(rawInput));
+    }
+
+    /**
+     * Decode the values returned by this function.
+     *
+     * @param input ABI encoded return values
+     * @return decoded values, or an empty list if the input is empty
+     */
+    public List<Type> decode(byte[] input) {
+        return returnValuesDecoder().decode(input);
+    }
+
+    /**
+     * Decode the values returned by this function as they are read, see {@link DecodedResult}.
+     *
+     * @param input ABI encoded return values
+     * @return view of the values, empty if the input is empty
+     */
+    public DecodedResult decodeLazily(byte[] input) {
+        return new DecodedResult(input, returnValuesDecoder());
+    }
+
+    private ReturnValuesDecoder returnValuesDecoder() {
+        ReturnValuesDecoder decoder = returnValuesDecoder;
+        if (decoder == null) {
+            decoder = ReturnValuesDecoder.of(outputParameters);
+            returnValuesDecoder = decoder;
+        }
+        return decoder;
+    }
+}
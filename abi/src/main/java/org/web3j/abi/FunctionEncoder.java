@@ -14,6 +14,7 @@ package org.web3j.abi;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
@@ -46,6 +47,17 @@ public abstract class FunctionEncoder {
         return encoder().encodeFunction(function);
     }
 
+    /**
+     * Encode a function call as raw bytes, the 4 byte method id followed by the encoded parameters.
+     * This is the binary form of {@link #encode(Function)}.
+     *
+     * @param function to encode
+     * @return encoded function call
+     */
+    public static byte[] encodeToBytes(final Function function) {
+        return encoder().encodeFunctionToBytes(function);
+    }
+
     public static String encodeConstructor(final List<Type> parameters) {
         return encoder().encodeParameters(parameters);
     }
@@ -73,6 +85,18 @@ public abstract class FunctionEncoder {
 
     protected abstract String encodeParameters(List<Type> parameters);
 
+    /**
+     * Encode a function call as raw bytes. Decodes the result of {@link #encodeFunction(Function)}
+     * unless overridden, so that existing {@link FunctionEncoderProvider} implementations keep
+     * working.
+     *
+     * @param function to encode
+     * @return encoded function call
+     */
+    protected byte[] encodeFunctionToBytes(Function function) {
+        return Numeric.hexStringToByteArray(encodeFunction(function));
+    }
+
     protected static String buildMethodSignature(
             final String methodName, final List<Type> parameters) {
 
@@ -87,9 +111,13 @@ public abstract class FunctionEncoder {
     }
 
     protected static String buildMethodId(final String methodSignature) {
+        return Numeric.toHexString(buildMethodIdBytes(methodSignature));
+    }
+
+    protected static byte[] buildMethodIdBytes(final String methodSignature) {
         final byte[] input = methodSignature.getBytes();
         final byte[] hash = Hash.sha3(input);
-        return Numeric.toHexString(hash).substring(0, 10);
+        return Arrays.copyOf(hash, 4);
     }
 
     private static FunctionEncoder encoder() {
@@ -16,6 +16,9 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.spi.FunctionReturnDecoderProvider;
@@ -49,6 +52,63 @@ public abstract class FunctionReturnDecoder {
         return decoder().decodeFunctionResult(rawInput, outputParameters);
     }
 
+    /**
+     * Decode ABI encoded return values from smart contract function call, deferring the decoding of
+     * each value until it is read from the returned list.
+     *
+     * @param rawInput ABI encoded input
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function, {@link Collections#emptyList()} if
+     *     invalid response
+     * @see DecodedResult
+     */
+    public static List<Type> decodeLazily(
+            String rawInput, List<TypeReference<Type>> outputParameters) {
+        return decoder().decodeFunctionResultLazily(rawInput, outputParameters);
+    }
+
+    /**
+     * Decode the ABI encoded return values of many calls to functions with the same return types,
+     * in parallel on the common {@link ForkJoinPool}.
+     *
+     * @param rawInputs ABI encoded inputs
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return values returned by each function call, in the order of rawInputs
+     * @see BulkDecoder
+     */
+    public static List<List<Type>> decodeAll(
+            List<String> rawInputs, List<TypeReference<Type>> outputParameters) {
+        return decodeAll(rawInputs, outputParameters, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decode the ABI encoded return values of many calls to functions with the same return types,
+     * in parallel on the given executor.
+     *
+     * @param rawInputs ABI encoded inputs
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @param executor runs decoding tasks
+     * @return values returned by each function call, in the order of rawInputs
+     * @see BulkDecoder
+     */
+    public static List<List<Type>> decodeAll(
+            List<String> rawInputs, List<TypeReference<Type>> outputParameters, Executor executor) {
+        return BulkDecoder.decodeAll(rawInputs, decoderFor(outputParameters), executor);
+    }
+
+    /**
+     * Returns a function decoding ABI encoded return values of the given types, for decoding many
+     * results without resolving the types for each one.
+     *
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return function from ABI encoded input to the values it holds, as returned by {@link
+     *     #decode(String, List)}
+     */
+    public static Function<String, List<Type>> decoderFor(
+            List<TypeReference<Type>> outputParameters) {
+        return decoder().resultDecoder(outputParameters);
+    }
+
     /**
      * Decodes an indexed parameter associated with an event. Indexed parameters are individually
      * encoded, unlike non-indexed parameters which are encoded as per ABI-encoded function
@@ -79,12 +139,34 @@ public abstract class FunctionReturnDecoder {
     protected abstract List<Type> decodeFunctionResult(
             String rawInput, List<TypeReference<Type>> outputParameters);
 
+    /**
+     * Decode function return values on demand. Decoders which cannot defer decoding return the
+     * values of {@link #decodeFunctionResult(String, List)}.
+     */
+    protected List<Type> decodeFunctionResultLazily(
+            String rawInput, List<TypeReference<Type>> outputParameters) {
+        return decodeFunctionResult(rawInput, outputParameters);
+    }
+
+    /**
+     * Returns a function decoding the results of calls with the given return types, used to decode
+     * many results at once. Decoders which can resolve the return types ahead of decoding override
+     * this so that it is done once rather than for every result.
+     */
+    protected Function<String, List<Type>> resultDecoder(
+            List<TypeReference<Type>> outputParameters) {
+        return rawInput -> decodeFunctionResult(rawInput, outputParameters);
+    }
+
     protected abstract <T extends Type> Type decodeEventParameter(
             String rawInput, TypeReference<T> typeReference);
 
     private static FunctionReturnDecoder decoder() {
-        final Iterator<FunctionReturnDecoderProvider> iterator = loader.iterator();
-        return iterator.hasNext() ? iterator.next().get() : defaultDecoder();
+        // ServiceLoader is not safe for use by concurrent threads
+        synchronized (loader) {
+            final Iterator<FunctionReturnDecoderProvider> iterator = loader.iterator();
+            return iterator.hasNext() ? iterator.next().get() : defaultDecoder();
+        }
     }
 
     private static FunctionReturnDecoder defaultDecoder() {
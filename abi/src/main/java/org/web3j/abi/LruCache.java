@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Size bounded map which evicts the least recently used entry, safe for use from multiple threads.
+ */
+final class LruCache<K, V> {
+
+    private final Map<K, V> map;
+
+    LruCache(int maxSize) {
+        this.map =
+                new LinkedHashMap<K, V>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                        return size() > maxSize;
+                    }
+                };
+    }
+
+    synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    /**
+     * Returns the value cached for the key, creating it if absent. The value is created outside of
+     * the lock, so concurrent callers may create it more than once, but all of them receive the
+     * instance that was cached first.
+     */
+    V computeIfAbsent(K key, Function<K, V> factory) {
+        V value = get(key);
+        if (value == null) {
+            value = factory.apply(key);
+            synchronized (this) {
+                V existing = map.putIfAbsent(key, value);
+                if (existing != null) {
+                    value = existing;
+                }
+            }
+        }
+        return value;
+    }
+
+    synchronized int size() {
+        return map.size();
+    }
+}
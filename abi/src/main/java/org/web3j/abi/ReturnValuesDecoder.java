@@ -0,0 +1,258 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.StaticArray;
+import org.web3j.abi.datatypes.StaticStruct;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+
+import static org.web3j.abi.datatypes.Type.MAX_BYTE_LENGTH;
+
+/**
+ * Decodes the return values of a function, or the components of a struct, with the class, kind and
+ * head size of each value resolved once when it is created rather than on every call.
+ */
+final class ReturnValuesDecoder {
+
+    static final int CACHE_SIZE = 1024;
+
+    private static final LruCache<String, ReturnValuesDecoder> CACHE = new LruCache<>(CACHE_SIZE);
+
+    private static final int VALUE = 0;
+    private static final int DYNAMIC_VALUE = 1;
+    private static final int DYNAMIC_ARRAY = 2;
+    private static final int STATIC_ARRAY = 3;
+    private static final int STATIC_STRUCT = 4;
+    private static final int DYNAMIC_STATIC_ARRAY = 5;
+
+    private final List<TypeReference<Type>> typeReferences;
+    private final Class<Type>[] types;
+    private final int[] kinds;
+    private final int[] lengths;
+    private final int[] arraySizes;
+    private final int[] offsets;
+
+    @SuppressWarnings("unchecked")
+    private ReturnValuesDecoder(List<TypeReference<Type>> outputParameters) {
+        int size = outputParameters.size();
+        this.typeReferences = new ArrayList<>(outputParameters);
+        this.types = new Class[size];
+        this.kinds = new int[size];
+        this.lengths = new int[size];
+        this.arraySizes = new int[size];
+        this.offsets = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            TypeReference<Type> typeReference = outputParameters.get(i);
+            Class<Type> type;
+            try {
+                type = typeReference.getClassType();
+            } catch (ClassNotFoundException e) {
+                throw new UnsupportedOperationException("Invalid class reference provided", e);
+            }
+            types[i] = type;
+
+            if (StaticStruct.class.isAssignableFrom(type)) {
+                kinds[i] = STATIC_STRUCT;
+                lengths[i] =
+                        StructDecoder.of(type.asSubclass(StaticStruct.class)).getHeadLength()
+                                / MAX_BYTE_LENGTH;
+            } else if (DynamicArray.class.isAssignableFrom(type)) {
+                kinds[i] = DYNAMIC_ARRAY;
+                lengths[i] = 1;
+            } else if (typeReference instanceof TypeReference.StaticArrayTypeReference
+                    || StaticArray.class.isAssignableFrom(type)) {
+                if (typeReference instanceof TypeReference.StaticArrayTypeReference) {
+                    arraySizes[i] =
+                            ((TypeReference.StaticArrayTypeReference) typeReference).getSize();
+                } else {
+                    arraySizes[i] =
+                            Integer.parseInt(
+                                    type.getSimpleName()
+                                            .substring(StaticArray.class.getSimpleName().length()));
+                }
+                // static arrays of dynamic structs are dynamic, their head is an offset
+                if (hasDynamicStructElements(typeReference)) {
+                    kinds[i] = DYNAMIC_STATIC_ARRAY;
+                    lengths[i] = 1;
+                } else {
+                    kinds[i] = STATIC_ARRAY;
+                    lengths[i] = arraySizes[i];
+                }
+            } else if (DynamicBytes.class.isAssignableFrom(type)
+                    || Utf8String.class.isAssignableFrom(type)
+                    || DynamicStruct.class.isAssignableFrom(type)) {
+                kinds[i] = DYNAMIC_VALUE;
+                lengths[i] = 1;
+            } else {
+                kinds[i] = VALUE;
+                lengths[i] = 1;
+            }
+            if (i > 0) {
+                offsets[i] = offsets[i - 1] + lengths[i - 1] * MAX_BYTE_LENGTH;
+            }
+        }
+    }
+
+    /**
+     * Returns the decoder for the given output types, compiling it on first use.
+     *
+     * @param outputParameters return types of the function
+     * @return decoder for the return values
+     */
+    static ReturnValuesDecoder of(List<TypeReference<Type>> outputParameters) {
+        return CACHE.computeIfAbsent(
+                key(outputParameters), k -> new ReturnValuesDecoder(outputParameters));
+    }
+
+    /**
+     * Returns a key which is equal for lists of type references describing the same types. The key
+     * is built from type names, as references made by {@link
+     * TypeReference#makeTypeReference(String)} return a new {@link ParameterizedType} without
+     * equals or hashCode from every call to getType.
+     *
+     * @param outputParameters return types of the function
+     * @return cache key
+     */
+    static String key(List<TypeReference<Type>> outputParameters) {
+        StringBuilder key = new StringBuilder();
+        for (TypeReference<Type> typeReference : outputParameters) {
+            appendKey(key, typeReference);
+            key.append(';');
+        }
+        return key.toString();
+    }
+
+    private static void appendKey(StringBuilder key, TypeReference<?> typeReference) {
+        appendTypeName(key, typeReference.getType());
+        if (typeReference instanceof TypeReference.StaticArrayTypeReference) {
+            key.append('[')
+                    .append(((TypeReference.StaticArrayTypeReference) typeReference).getSize())
+                    .append(']');
+        }
+        // sizes of nested static arrays are only held by their own type references
+        TypeReference<?> subTypeReference = typeReference.getSubTypeReference();
+        if (subTypeReference != null) {
+            key.append('(');
+            appendKey(key, subTypeReference);
+            key.append(')');
+        }
+    }
+
+    private static void appendTypeName(StringBuilder key, java.lang.reflect.Type type) {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            appendTypeName(key, parameterizedType.getRawType());
+            key.append('<');
+            for (java.lang.reflect.Type argument : parameterizedType.getActualTypeArguments()) {
+                appendTypeName(key, argument);
+                key.append(',');
+            }
+            key.append('>');
+        } else if (type instanceof Class) {
+            key.append(((Class<?>) type).getName());
+        } else {
+            key.append(type.getTypeName());
+        }
+    }
+
+    private static boolean hasDynamicStructElements(TypeReference<Type> typeReference) {
+        java.lang.reflect.Type type = typeReference.getType();
+        if (!(type instanceof ParameterizedType)) {
+            return false;
+        }
+        java.lang.reflect.Type elementType = ((ParameterizedType) type).getActualTypeArguments()[0];
+        return elementType instanceof Class
+                && DynamicStruct.class.isAssignableFrom((Class<?>) elementType);
+    }
+
+    int size() {
+        return types.length;
+    }
+
+    /**
+     * Returns the number of bytes the values occupy in place, excluding the tails of dynamic
+     * values.
+     *
+     * @return length of the head of the encoding
+     */
+    int getHeadLength() {
+        return types.length == 0
+                ? 0
+                : offsets[types.length - 1] + lengths[types.length - 1] * MAX_BYTE_LENGTH;
+    }
+
+    List<Type> decode(byte[] input) {
+        if (input.length == 0) {
+            return Collections.emptyList();
+        }
+        return decode(input, 0);
+    }
+
+    /**
+     * Decode all values of a tuple.
+     *
+     * @param input ABI encoded data
+     * @param start offset in bytes of the tuple within input, which dynamic values are relative to
+     * @return decoded values
+     */
+    List<Type> decode(byte[] input, int start) {
+        List<Type> results = new ArrayList<>(types.length);
+        for (int i = 0; i < types.length; i++) {
+            results.add(decode(input, start, i));
+        }
+        return results;
+    }
+
+    /**
+     * Decode a single value of a tuple, reading only its head and, if it is dynamic, its tail.
+     *
+     * @param input ABI encoded data
+     * @param start offset in bytes of the tuple within input, which dynamic values are relative to
+     * @param index position of the value within the tuple
+     * @return decoded value
+     */
+    Type decode(byte[] input, int start, int index) {
+        int offset = start + offsets[index];
+        switch (kinds[index]) {
+            case DYNAMIC_ARRAY:
+                return TypeDecoder.decodeDynamicArray(
+                        input,
+                        start + TypeDecoder.decodeUintAsInt(input, offset),
+                        typeReferences.get(index));
+            case STATIC_ARRAY:
+                return TypeDecoder.decodeStaticArray(
+                        input, offset, typeReferences.get(index), arraySizes[index]);
+            case DYNAMIC_STATIC_ARRAY:
+                return TypeDecoder.decodeStaticArray(
+                        input,
+                        start + TypeDecoder.decodeUintAsInt(input, offset),
+                        typeReferences.get(index),
+                        arraySizes[index]);
+            case DYNAMIC_VALUE:
+                return TypeDecoder.decode(
+                        input, start + TypeDecoder.decodeUintAsInt(input, offset), types[index]);
+            default:
+                return TypeDecoder.decode(input, offset, types[index]);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.web3j.abi.datatypes.StructType;
+import org.web3j.abi.datatypes.Type;
+
+/**
+ * Decodes structs of one class, with the layout read from the constructor of the class once when it
+ * is created rather than on every value.
+ */
+final class StructDecoder<T extends StructType> {
+
+    private static final LruCache<Class<?>, StructDecoder<?>> CACHE =
+            new LruCache<>(ReturnValuesDecoder.CACHE_SIZE);
+
+    private final Constructor<T> constructor;
+    private final ReturnValuesDecoder components;
+
+    private StructDecoder(Class<T> type) {
+        this.constructor = StructType.getComponentsConstructor(type);
+
+        java.lang.reflect.Type[] componentTypes = constructor.getGenericParameterTypes();
+        List<TypeReference<Type>> typeReferences = new ArrayList<>(componentTypes.length);
+        for (java.lang.reflect.Type componentType : componentTypes) {
+            typeReferences.add(
+                    new TypeReference<Type>() {
+                        @Override
+                        public java.lang.reflect.Type getType() {
+                            return componentType;
+                        }
+                    });
+        }
+        this.components = ReturnValuesDecoder.of(typeReferences);
+    }
+
+    /**
+     * Returns the decoder for the given struct class, creating it on first use.
+     *
+     * @param type struct class
+     * @param <T> struct type
+     * @return decoder for the struct
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends StructType> StructDecoder<T> of(Class<T> type) {
+        return (StructDecoder<T>) CACHE.computeIfAbsent(type, k -> new StructDecoder<>(type));
+    }
+
+    /**
+     * Returns the number of bytes the struct occupies in place, which for a static struct is its
+     * whole encoding.
+     *
+     * @return length of the head of the encoding
+     */
+    int getHeadLength() {
+        return components.getHeadLength();
+    }
+
+    /**
+     * Decode a struct.
+     *
+     * @param input ABI encoded data
+     * @param offset in bytes of the struct within input
+     * @return decoded struct
+     */
+    T decode(byte[] input, int offset) {
+        List<Type> values = components.decode(input, offset);
+        try {
+            return constructor.newInstance(values.toArray());
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException(
+                    "Unable to create instance of " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+}
@@ -30,13 +30,17 @@ import org.web3j.abi.datatypes.Bytes;
 import org.web3j.abi.datatypes.BytesType;
 import org.web3j.abi.datatypes.DynamicArray;
 import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
 import org.web3j.abi.datatypes.Fixed;
 import org.web3j.abi.datatypes.FixedPointType;
 import org.web3j.abi.datatypes.Int;
 import org.web3j.abi.datatypes.IntType;
 import org.web3j.abi.datatypes.NumericType;
 import org.web3j.abi.datatypes.StaticArray;
+import org.web3j.abi.datatypes.StaticStruct;
+import org.web3j.abi.datatypes.StructType;
 import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.TypeMetadata;
 import org.web3j.abi.datatypes.Ufixed;
 import org.web3j.abi.datatypes.Uint;
 import org.web3j.abi.datatypes.Utf8String;
@@ -52,8 +56,6 @@ import static org.web3j.abi.TypeReference.makeTypeReference;
  */
 public class TypeDecoder {
 
-    static final int MAX_BYTE_LENGTH_FOR_HEX_STRING = Type.MAX_BYTE_LENGTH << 1;
-
     public static Type instantiateType(String solidityType, Object value)
             throws InvocationTargetException, NoSuchMethodException, InstantiationException,
                     IllegalAccessException, ClassNotFoundException {
@@ -70,8 +72,21 @@ public class TypeDecoder {
         return instantiateAtomicType(rc, value);
     }
 
+    /**
+     * Decode an array from hex ABI encoded data. As array elements may refer to any part of the
+     * encoding after offset, all of it is converted to bytes on each call.
+     *
+     * @param input ABI encoded data
+     * @param offset in characters of the array within input
+     * @param typeReference of the array
+     * @return decoded array
+     */
     public static <T extends Array> T decode(
             String input, int offset, TypeReference<T> typeReference) {
+        return decode(toBytes(input, offset), 0, typeReference);
+    }
+
+    static <T extends Array> T decode(byte[] input, int offset, TypeReference<T> typeReference) {
         Class cls = ((ParameterizedType) typeReference.getType()).getRawType().getClass();
         if (StaticArray.class.isAssignableFrom(cls)) {
             return decodeStaticArray(input, offset, typeReference, 1);
@@ -85,12 +100,36 @@ public class TypeDecoder {
         }
     }
 
-    @SuppressWarnings("unchecked")
     static <T extends Type> T decode(String input, int offset, Class<T> type) {
+        byte[] bytes;
+        if (NumericType.class.isAssignableFrom(type)
+                || Address.class.isAssignableFrom(type)
+                || Bool.class.isAssignableFrom(type)
+                || Bytes.class.isAssignableFrom(type)) {
+            bytes = wordToBytes(input, offset);
+        } else if (DynamicBytes.class.isAssignableFrom(type)
+                || Utf8String.class.isAssignableFrom(type)) {
+            bytes = dynamicBytesToBytes(input, offset);
+        } else {
+            bytes = toBytes(input, offset);
+        }
+        return decode(bytes, 0, type);
+    }
+
+    /**
+     * Decode a single non array value from binary ABI encoded data.
+     *
+     * @param input ABI encoded data
+     * @param offset in bytes of the value within input, for dynamic values the start of their tail
+     * @param type of the value
+     * @return decoded value
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Type> T decode(byte[] input, int offset, Class<T> type) {
         if (NumericType.class.isAssignableFrom(type)) {
-            return (T) decodeNumeric(input.substring(offset), (Class<NumericType>) type);
+            return (T) decodeNumeric(input, offset, (Class<NumericType>) type);
         } else if (Address.class.isAssignableFrom(type)) {
-            return (T) decodeAddress(input.substring(offset));
+            return (T) decodeAddress(input, offset);
         } else if (Bool.class.isAssignableFrom(type)) {
             return (T) decodeBool(input, offset);
         } else if (Bytes.class.isAssignableFrom(type)) {
@@ -99,6 +138,8 @@ public class TypeDecoder {
             return (T) decodeDynamicBytes(input, offset);
         } else if (Utf8String.class.isAssignableFrom(type)) {
             return (T) decodeUtf8String(input, offset);
+        } else if (StructType.class.isAssignableFrom(type)) {
+            return (T) StructDecoder.of((Class<StructType>) type).decode(input, offset);
         } else if (Array.class.isAssignableFrom(type)) {
             throw new UnsupportedOperationException(
                     "Array types must be wrapped in a TypeReference");
@@ -112,24 +153,42 @@ public class TypeDecoder {
     }
 
     static Address decodeAddress(String input) {
-        return new Address(decodeNumeric(input, Uint160.class));
+        return decodeAddress(wordToBytes(input, 0), 0);
+    }
+
+    static Address decodeAddress(byte[] input, int offset) {
+        return new Address(decodeNumeric(input, offset, Uint160.class));
     }
 
     static <T extends NumericType> T decodeNumeric(String input, Class<T> type) {
+        return decodeNumeric(wordToBytes(input, 0), 0, type);
+    }
+
+    static <T extends NumericType> T decodeNumeric(byte[] input, int offset, Class<T> type) {
         try {
-            byte[] inputByteArray = Numeric.hexStringToByteArray(input);
+            TypeMetadata<T> metadata = TypeMetadata.get(type);
+            if (metadata != null && metadata.hasLongValues()) {
+                T value = decodeLongNumeric(input, offset, metadata);
+                if (value != null) {
+                    return value;
+                }
+            }
+
             int typeLengthAsBytes = getTypeLengthInBytes(type);
 
             byte[] resultByteArray = new byte[typeLengthAsBytes + 1];
 
             if (Int.class.isAssignableFrom(type) || Fixed.class.isAssignableFrom(type)) {
-                resultByteArray[0] = inputByteArray[0]; // take MSB as sign bit
+                resultByteArray[0] = input[offset]; // take MSB as sign bit
             }
 
-            int valueOffset = Type.MAX_BYTE_LENGTH - typeLengthAsBytes;
-            System.arraycopy(inputByteArray, valueOffset, resultByteArray, 1, typeLengthAsBytes);
+            int valueOffset = offset + Type.MAX_BYTE_LENGTH - typeLengthAsBytes;
+            System.arraycopy(input, valueOffset, resultByteArray, 1, typeLengthAsBytes);
 
             BigInteger numericValue = new BigInteger(resultByteArray);
+            if (metadata != null) {
+                return metadata.newInstance(numericValue);
+            }
             return type.getConstructor(BigInteger.class).newInstance(numericValue);
 
         } catch (NoSuchMethodException
@@ -143,12 +202,43 @@ public class TypeDecoder {
         }
     }
 
+    /**
+     * Decodes an integer of at most 64 bits into a primitive long, reading the same bytes as the
+     * {@link BigInteger} path: the low bit size bits of the word, sign extended from the MSB of the
+     * word for signed types.
+     *
+     * @return the decoded value, or null if it does not fit in a long, such as a uint64 above
+     *     {@link Long#MAX_VALUE}, leaving those to the {@link BigInteger} path
+     */
+    private static <T extends NumericType> T decodeLongNumeric(
+            byte[] input, int offset, TypeMetadata<T> metadata) {
+        int bitSize = metadata.getBitSize();
+        long value = 0;
+        for (int i = offset + Type.MAX_BYTE_LENGTH - Long.BYTES;
+                i < offset + Type.MAX_BYTE_LENGTH;
+                i++) {
+            value = (value << Byte.SIZE) | (input[i] & 0xff);
+        }
+
+        boolean negative = metadata.isSigned() && input[offset] < 0;
+        if (bitSize < Long.SIZE) {
+            long mask = (1L << bitSize) - 1;
+            value = negative ? value | ~mask : value & mask;
+        } else if (negative != (value < 0)) {
+            return null;
+        }
+        return metadata.newInstance(value);
+    }
+
     static <T extends NumericType> int getTypeLengthInBytes(Class<T> type) {
         return getTypeLength(type) >> 3; // divide by 8
     }
 
     static <T extends NumericType> int getTypeLength(Class<T> type) {
-        if (IntType.class.isAssignableFrom(type)) {
+        TypeMetadata<T> metadata = TypeMetadata.get(type);
+        if (metadata != null) {
+            return metadata.getBitSize();
+        } else if (IntType.class.isAssignableFrom(type)) {
             String regex = "(" + Uint.class.getSimpleName() + "|" + Int.class.getSimpleName() + ")";
             String[] splitName = type.getSimpleName().split(regex);
             if (splitName.length == 2) {
@@ -245,27 +335,54 @@ public class TypeDecoder {
         return (Type) cons.newInstance(constructorArg);
     }
 
-    static <T extends Type> int getSingleElementLength(String input, int offset, Class<T> type) {
-        if (input.length() == offset) {
+    static <T extends Type> int getSingleElementLength(byte[] input, int offset, Class<T> type) {
+        if (input.length == offset) {
             return 0;
         } else if (DynamicBytes.class.isAssignableFrom(type)
                 || Utf8String.class.isAssignableFrom(type)) {
             // length field + data value
             return (decodeUintAsInt(input, offset) / Type.MAX_BYTE_LENGTH) + 2;
+        } else if (StaticStruct.class.isAssignableFrom(type)) {
+            return StructDecoder.of(type.asSubclass(StaticStruct.class)).getHeadLength()
+                    / Type.MAX_BYTE_LENGTH;
         } else {
             return 1;
         }
     }
 
     static int decodeUintAsInt(String rawInput, int offset) {
-        String input = rawInput.substring(offset, offset + MAX_BYTE_LENGTH_FOR_HEX_STRING);
-        return decode(input, 0, Uint.class).getValue().intValue();
+        return decodeUintAsInt(wordToBytes(rawInput, offset), 0);
+    }
+
+    /**
+     * Decode the low 32 bits of a uint256 word, as used for lengths and offsets.
+     *
+     * @param input ABI encoded data
+     * @param offset in bytes of the word within input
+     * @return low 32 bits of the word
+     */
+    static int decodeUintAsInt(byte[] input, int offset) {
+        checkWord(input, offset);
+        int result = 0;
+        for (int i = offset + Type.MAX_BYTE_LENGTH - Integer.BYTES;
+                i < offset + Type.MAX_BYTE_LENGTH;
+                i++) {
+            result = (result << 8) | (input[i] & 0xff);
+        }
+        return result;
     }
 
     static Bool decodeBool(String rawInput, int offset) {
-        String input = rawInput.substring(offset, offset + MAX_BYTE_LENGTH_FOR_HEX_STRING);
-        BigInteger numericValue = Numeric.toBigInt(input);
-        boolean value = numericValue.equals(BigInteger.ONE);
+        return decodeBool(wordToBytes(rawInput, offset), 0);
+    }
+
+    static Bool decodeBool(byte[] input, int offset) {
+        checkWord(input, offset);
+        int last = offset + Type.MAX_BYTE_LENGTH - 1;
+        boolean value = input[last] == 1;
+        for (int i = offset; value && i < last; i++) {
+            value = input[i] == 0;
+        }
         return new Bool(value);
     }
 
@@ -274,14 +391,25 @@ public class TypeDecoder {
     }
 
     static <T extends Bytes> T decodeBytes(String input, int offset, Class<T> type) {
+        return decodeBytes(wordToBytes(input, offset), 0, type);
+    }
+
+    static <T extends Bytes> T decodeBytes(byte[] input, int offset, Class<T> type) {
+        TypeMetadata<T> metadata = TypeMetadata.get(type);
+        if (metadata != null) {
+            int length = metadata.getBitSize() >> 3;
+            byte[] bytes = new byte[length];
+            System.arraycopy(input, offset, bytes, 0, length);
+            return metadata.newInstance(bytes);
+        }
+
         try {
             String simpleName = type.getSimpleName();
             String[] splitName = simpleName.split(Bytes.class.getSimpleName());
             int length = Integer.parseInt(splitName[1]);
-            int hexStringLength = length << 1;
 
-            byte[] bytes =
-                    Numeric.hexStringToByteArray(input.substring(offset, offset + hexStringLength));
+            byte[] bytes = new byte[length];
+            System.arraycopy(input, offset, bytes, 0, length);
             return type.getConstructor(byte[].class).newInstance(bytes);
         } catch (NoSuchMethodException
                 | SecurityException
@@ -295,18 +423,26 @@ public class TypeDecoder {
     }
 
     static DynamicBytes decodeDynamicBytes(String input, int offset) {
+        return decodeDynamicBytes(dynamicBytesToBytes(input, offset), 0);
+    }
+
+    static DynamicBytes decodeDynamicBytes(byte[] input, int offset) {
         int encodedLength = decodeUintAsInt(input, offset);
-        int hexStringEncodedLength = encodedLength << 1;
 
-        int valueOffset = offset + MAX_BYTE_LENGTH_FOR_HEX_STRING;
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH;
+        checkLength(input, valueOffset, encodedLength, 1);
 
-        String data = input.substring(valueOffset, valueOffset + hexStringEncodedLength);
-        byte[] bytes = Numeric.hexStringToByteArray(data);
+        byte[] bytes = new byte[encodedLength];
+        System.arraycopy(input, valueOffset, bytes, 0, encodedLength);
 
         return new DynamicBytes(bytes);
     }
 
     static Utf8String decodeUtf8String(String input, int offset) {
+        return decodeUtf8String(dynamicBytesToBytes(input, offset), 0);
+    }
+
+    static Utf8String decodeUtf8String(byte[] input, int offset) {
         DynamicBytes dynamicBytesResult = decodeDynamicBytes(input, offset);
         byte[] bytes = dynamicBytesResult.getValue();
 
@@ -314,33 +450,53 @@ public class TypeDecoder {
     }
 
     /** Static array length cannot be passed as a type. */
-    @SuppressWarnings("unchecked")
     static <T extends Type> T decodeStaticArray(
             String input, int offset, TypeReference<T> typeReference, int length) {
+        return decodeStaticArray(toBytes(input, offset), 0, typeReference, length);
+    }
 
-        BiFunction<List<T>, String, T> function =
-                (elements, typeName) -> {
+    /** Static array length cannot be passed as a type. */
+    @SuppressWarnings("unchecked")
+    static <T extends Type> T decodeStaticArray(
+            byte[] input, int offset, TypeReference<T> typeReference, int length) {
+
+        BiFunction<List<T>, Class<T>, T> function =
+                (elements, elementType) -> {
                     if (elements.isEmpty()) {
                         throw new UnsupportedOperationException(
                                 "Zero length fixed array is invalid type");
                     } else {
-                        return instantiateStaticArray(typeReference, elements, length);
+                        return instantiateStaticArray(elements, elementType, length);
                     }
                 };
 
         return decodeArrayElements(input, offset, typeReference, length, function);
     }
 
-    @SuppressWarnings("unchecked")
     static <T extends Type> T decodeDynamicArray(
             String input, int offset, TypeReference<T> typeReference) {
+        return decodeDynamicArray(toBytes(input, offset), 0, typeReference);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Type> T decodeDynamicArray(
+            byte[] input, int offset, TypeReference<T> typeReference) {
 
         int length = decodeUintAsInt(input, offset);
 
-        BiFunction<List<T>, String, T> function =
-                (elements, typeName) -> (T) new DynamicArray(AbiTypes.getType(typeName), elements);
+        BiFunction<List<T>, Class<T>, T> function =
+                (elements, elementType) -> {
+                    if (StructType.class.isAssignableFrom(elementType)) {
+                        return (T) new DynamicArray(elementType, elements);
+                    } else {
+                        return (T)
+                                new DynamicArray(
+                                        AbiTypes.getType(Utils.getSimpleTypeName(elementType)),
+                                        elements);
+                    }
+                };
 
-        int valueOffset = offset + MAX_BYTE_LENGTH_FOR_HEX_STRING;
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH;
 
         return decodeArrayElements(input, valueOffset, typeReference, length, function);
     }
@@ -373,12 +529,19 @@ public class TypeDecoder {
 
     @SuppressWarnings("unchecked")
     private static <T extends Type> T instantiateStaticArray(
-            TypeReference<T> typeReference, List<T> elements, int length) {
+            List<T> elements, Class<T> elementType, int length) {
         try {
             Class<? extends StaticArray> arrayClass =
                     (Class<? extends StaticArray>)
                             Class.forName("org.web3j.abi.datatypes.generated.StaticArray" + length);
 
+            if (StructType.class.isAssignableFrom(elementType)) {
+                // struct types cannot be looked up from their type strings
+                return (T)
+                        arrayClass
+                                .getConstructor(Class.class, List.class)
+                                .newInstance(elementType, elements);
+            }
             return (T) arrayClass.getConstructor(List.class).newInstance(elements);
         } catch (ReflectiveOperationException e) {
             throw new UnsupportedOperationException(e);
@@ -386,11 +549,11 @@ public class TypeDecoder {
     }
 
     private static <T extends Type> T decodeArrayElements(
-            String input,
+            byte[] input,
             int offset,
             TypeReference<T> typeReference,
             int length,
-            BiFunction<List<T>, String, T> consumer) {
+            BiFunction<List<T>, Class<T>, T> consumer) {
 
         try {
             Class<T> cls = Utils.getParameterizedTypeFromArray(typeReference);
@@ -399,21 +562,30 @@ public class TypeDecoder {
                         "Arrays of arrays are not currently supported for external functions, see"
                                 + "http://solidity.readthedocs.io/en/develop/types.html#members");
             } else {
+                // every element occupies at least one word
+                checkLength(input, offset, length, Type.MAX_BYTE_LENGTH);
                 List<T> elements = new ArrayList<>(length);
 
-                for (int i = 0, currOffset = offset;
-                        i < length;
-                        i++,
-                                currOffset +=
-                                        getSingleElementLength(input, currOffset, cls)
-                                                * MAX_BYTE_LENGTH_FOR_HEX_STRING) {
-                    T value = decode(input, currOffset, cls);
-                    elements.add(value);
+                if (DynamicStruct.class.isAssignableFrom(cls)) {
+                    // the head holds the offset of each element relative to the first head word
+                    for (int i = 0; i < length; i++) {
+                        int headOffset = offset + i * Type.MAX_BYTE_LENGTH;
+                        elements.add(
+                                decode(input, offset + decodeUintAsInt(input, headOffset), cls));
+                    }
+                } else {
+                    for (int i = 0, currOffset = offset;
+                            i < length;
+                            i++,
+                                    currOffset +=
+                                            getSingleElementLength(input, currOffset, cls)
+                                                    * Type.MAX_BYTE_LENGTH) {
+                        T value = decode(input, currOffset, cls);
+                        elements.add(value);
+                    }
                 }
 
-                String typeName = Utils.getSimpleTypeName(cls);
-
-                return consumer.apply(elements, typeName);
+                return consumer.apply(elements, cls);
             }
         } catch (ClassNotFoundException e) {
             throw new UnsupportedOperationException(
@@ -421,4 +593,49 @@ public class TypeDecoder {
                     e);
         }
     }
+
+    // offsets into hex strings are in characters, convert only the characters a value occupies
+    private static byte[] wordToBytes(String input, int offset) {
+        return toBytes(input, offset, Type.MAX_BYTE_LENGTH << 1);
+    }
+
+    private static byte[] dynamicBytesToBytes(String input, int offset) {
+        long length = decodeUintAsInt(input, offset) & 0xFFFFFFFFL;
+        return toBytes(input, offset, (Type.MAX_BYTE_LENGTH + length) << 1);
+    }
+
+    // arrays and structs may refer to any part of the tail, so convert all of it
+    private static byte[] toBytes(String input, int offset) {
+        return toBytes(input, offset, input.length() - offset);
+    }
+
+    private static byte[] toBytes(String input, int offset, long length) {
+        if (input.startsWith("0x", offset)) {
+            length += 2;
+        }
+        int available = input.length() - offset;
+        return Numeric.hexStringToByteArray(
+                input, offset, (int) Math.min(length, available), false);
+    }
+
+    private static void checkWord(byte[] input, int offset) {
+        if (offset < 0 || offset > input.length - Type.MAX_BYTE_LENGTH) {
+            throw new IndexOutOfBoundsException(
+                    "No 32 byte word at offset " + offset + " of " + input.length + " bytes");
+        }
+    }
+
+    // lengths are read from the input, check them before allocating anything of that size
+    private static void checkLength(byte[] input, int offset, int length, int elementSize) {
+        if (length < 0 || offset < 0 || offset + (long) length * elementSize > input.length) {
+            throw new IndexOutOfBoundsException(
+                    "No "
+                            + (length & 0xFFFFFFFFL)
+                            + " values at offset "
+                            + offset
+                            + " of "
+                            + input.length
+                            + " bytes");
+        }
+    }
 }
@@ -13,7 +13,9 @@
 package org.web3j.abi;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.Array;
@@ -22,8 +24,10 @@ import org.web3j.abi.datatypes.Bytes;
 import org.web3j.abi.datatypes.BytesType;
 import org.web3j.abi.datatypes.DynamicArray;
 import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
 import org.web3j.abi.datatypes.NumericType;
 import org.web3j.abi.datatypes.StaticArray;
+import org.web3j.abi.datatypes.StructType;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.datatypes.Ufixed;
 import org.web3j.abi.datatypes.Uint;
@@ -45,29 +49,77 @@ public class TypeEncoder {
     static boolean isDynamic(Type parameter) {
         return parameter instanceof DynamicBytes
                 || parameter instanceof Utf8String
-                || parameter instanceof DynamicArray;
+                || parameter instanceof DynamicArray
+                || parameter instanceof DynamicStruct
+                || (parameter instanceof StaticArray
+                        && hasDynamicStructElements((StaticArray<?>) parameter));
     }
 
-    @SuppressWarnings("unchecked")
     public static String encode(Type parameter) {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedLength(parameter));
+        encode(parameter, buffer);
+        return Numeric.toHexStringNoPrefix(buffer.array());
+    }
+
+    /**
+     * Returns the number of bytes {@link #encode(Type, ByteBuffer)} writes for the given type.
+     *
+     * @param parameter type to encode
+     * @return encoded length in bytes
+     */
+    static int encodedLength(Type parameter) {
+        if (parameter instanceof NumericType
+                || parameter instanceof Address
+                || parameter instanceof Bool) {
+            return MAX_BYTE_LENGTH;
+        } else if (parameter instanceof Bytes) {
+            return paddedLength(((Bytes) parameter).getValue().length);
+        } else if (parameter instanceof DynamicBytes) {
+            return MAX_BYTE_LENGTH + paddedLength(((DynamicBytes) parameter).getValue().length);
+        } else if (parameter instanceof Utf8String) {
+            return MAX_BYTE_LENGTH + paddedLength(utf8Length(((Utf8String) parameter).getValue()));
+        } else if (parameter instanceof StaticArray) {
+            return staticArrayLength((StaticArray<?>) parameter);
+        } else if (parameter instanceof DynamicArray) {
+            return dynamicArrayLength((DynamicArray<?>) parameter);
+        } else if (parameter instanceof StructType) {
+            return tupleLength(((StructType) parameter).getValue());
+        } else if (parameter instanceof PrimitiveType) {
+            return encodedLength(((PrimitiveType) parameter).toSolidityType());
+        } else {
+            throw new UnsupportedOperationException(
+                    "Type cannot be encoded: " + parameter.getClass());
+        }
+    }
+
+    /**
+     * Writes the ABI encoding of the given type, exactly {@link #encodedLength(Type)} bytes.
+     *
+     * @param parameter type to encode
+     * @param buffer to write the encoding to
+     */
+    static void encode(Type parameter, ByteBuffer buffer) {
         if (parameter instanceof NumericType) {
-            return encodeNumeric(((NumericType) parameter));
+            writeNumeric((NumericType) parameter, buffer);
         } else if (parameter instanceof Address) {
-            return encodeAddress((Address) parameter);
+            writeNumeric(((Address) parameter).toUint(), buffer);
         } else if (parameter instanceof Bool) {
-            return encodeBool((Bool) parameter);
+            writeBool((Bool) parameter, buffer);
         } else if (parameter instanceof Bytes) {
-            return encodeBytes((Bytes) parameter);
+            writeBytes(((Bytes) parameter).getValue(), buffer);
         } else if (parameter instanceof DynamicBytes) {
-            return encodeDynamicBytes((DynamicBytes) parameter);
+            writeDynamicBytes(((DynamicBytes) parameter).getValue(), buffer);
         } else if (parameter instanceof Utf8String) {
-            return encodeString((Utf8String) parameter);
+            writeDynamicBytes(
+                    ((Utf8String) parameter).getValue().getBytes(StandardCharsets.UTF_8), buffer);
         } else if (parameter instanceof StaticArray) {
-            return encodeArrayValues((StaticArray) parameter);
+            writeStaticArray((StaticArray<?>) parameter, buffer);
         } else if (parameter instanceof DynamicArray) {
-            return encodeDynamicArray((DynamicArray) parameter);
+            writeDynamicArray((DynamicArray<?>) parameter, buffer);
+        } else if (parameter instanceof StructType) {
+            writeTuple(((StructType) parameter).getValue(), buffer);
         } else if (parameter instanceof PrimitiveType) {
-            return encode(((PrimitiveType) parameter).toSolidityType());
+            encode(((PrimitiveType) parameter).toSolidityType(), buffer);
         } else {
             throw new UnsupportedOperationException(
                     "Type cannot be encoded: " + parameter.getClass());
@@ -79,26 +131,142 @@ public class TypeEncoder {
     }
 
     static String encodeNumeric(NumericType numericType) {
-        byte[] rawValue = toByteArray(numericType);
-        byte paddingValue = getPaddingValue(numericType);
-        byte[] paddedRawValue = new byte[MAX_BYTE_LENGTH];
-        if (paddingValue != 0) {
-            for (int i = 0; i < paddedRawValue.length; i++) {
-                paddedRawValue[i] = paddingValue;
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_BYTE_LENGTH);
+        writeNumeric(numericType, buffer);
+        return Numeric.toHexStringNoPrefix(buffer.array());
+    }
+
+    static String encodeBool(Bool value) {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_BYTE_LENGTH);
+        writeBool(value, buffer);
+        return Numeric.toHexStringNoPrefix(buffer.array());
+    }
+
+    static String encodeBytes(BytesType bytesType) {
+        byte[] value = bytesType.getValue();
+        ByteBuffer buffer = ByteBuffer.allocate(paddedLength(value.length));
+        writeBytes(value, buffer);
+        return Numeric.toHexStringNoPrefix(buffer.array());
+    }
+
+    static String encodeDynamicBytes(DynamicBytes dynamicBytes) {
+        return encode(dynamicBytes);
+    }
+
+    static String encodeString(Utf8String string) {
+        return encode(string);
+    }
+
+    static <T extends Type> String encodeArrayValues(Array<T> value) {
+        ByteBuffer buffer = ByteBuffer.allocate(arrayValuesLength(value));
+        writeArrayValues(value, buffer);
+        return Numeric.toHexStringNoPrefix(buffer.array());
+    }
+
+    static <T extends Type> String encodeDynamicArray(DynamicArray<T> value) {
+        return encode(value);
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeTuple(List, ByteBuffer)} writes for the given
+     * values.
+     *
+     * @param values components of the tuple
+     * @return encoded length in bytes
+     */
+    static int tupleLength(List<Type> values) {
+        int length = 0;
+        for (Type value : values) {
+            length += encodedLength(value);
+            if (isDynamic(value)) {
+                length += MAX_BYTE_LENGTH;
             }
         }
+        return length;
+    }
 
-        System.arraycopy(
-                rawValue, 0, paddedRawValue, MAX_BYTE_LENGTH - rawValue.length, rawValue.length);
-        return Numeric.toHexStringNoPrefix(paddedRawValue);
+    /**
+     * Writes the values as a tuple, as used for function parameters and structs. Static values are
+     * written in place, dynamic values are replaced by their offset from the start of the tuple and
+     * written after all static values.
+     *
+     * @param values components of the tuple
+     * @param buffer to write the encoding to
+     */
+    static void writeTuple(List<Type> values, ByteBuffer buffer) {
+        int[] dynamicLengths = new int[values.size()];
+        int dynamicDataOffset = 0;
+        for (int i = 0; i < values.size(); i++) {
+            Type value = values.get(i);
+            if (isDynamic(value)) {
+                dynamicLengths[i] = encodedLength(value);
+                dynamicDataOffset += MAX_BYTE_LENGTH;
+            } else {
+                dynamicDataOffset += encodedLength(value);
+            }
+        }
+
+        for (int i = 0; i < values.size(); i++) {
+            Type value = values.get(i);
+            if (isDynamic(value)) {
+                writeUint(dynamicDataOffset, buffer);
+                dynamicDataOffset += dynamicLengths[i];
+            } else {
+                encode(value, buffer);
+            }
+        }
+        for (Type value : values) {
+            if (isDynamic(value)) {
+                encode(value, buffer);
+            }
+        }
     }
 
-    private static byte getPaddingValue(NumericType numericType) {
-        if (numericType.getValue().signum() == -1) {
-            return (byte) 0xff;
-        } else {
-            return 0;
+    /**
+     * Writes a non-negative integer as a single 32 byte word, as used for lengths and offsets.
+     *
+     * @param value to write
+     * @param buffer to write the word to
+     */
+    static void writeUint(long value, ByteBuffer buffer) {
+        for (int i = 0; i < MAX_BYTE_LENGTH - Long.BYTES; i++) {
+            buffer.put((byte) 0);
+        }
+        buffer.putLong(value);
+    }
+
+    private static void writeNumeric(NumericType numericType, ByteBuffer buffer) {
+        if (numericType.hasLongValue()) {
+            writeLong(numericType.longValue(), buffer);
+            return;
+        }
+
+        BigInteger value = numericType.getValue();
+        if (value.bitLength() < Long.SIZE) {
+            writeLong(value.longValue(), buffer);
+            return;
+        }
+
+        byte paddingValue = value.signum() == -1 ? (byte) 0xff : 0;
+
+        byte[] rawValue = toByteArray(numericType);
+        if (rawValue.length > MAX_BYTE_LENGTH) {
+            throw new UnsupportedOperationException(
+                    "Value does not fit in " + MAX_BYTE_LENGTH + " bytes: " + value);
+        }
+        for (int i = rawValue.length; i < MAX_BYTE_LENGTH; i++) {
+            buffer.put(paddingValue);
+        }
+        buffer.put(rawValue);
+    }
+
+    private static void writeLong(long value, ByteBuffer buffer) {
+        // the two's complement form of a long continues the sign padding
+        byte paddingValue = value < 0 ? (byte) 0xff : 0;
+        for (int i = 0; i < MAX_BYTE_LENGTH - Long.BYTES; i++) {
+            buffer.put(paddingValue);
         }
+        buffer.putLong(value);
     }
 
     private static byte[] toByteArray(NumericType numericType) {
@@ -116,93 +284,106 @@ public class TypeEncoder {
         return value.toByteArray();
     }
 
-    static String encodeBool(Bool value) {
-        byte[] rawValue = new byte[MAX_BYTE_LENGTH];
-        if (value.getValue()) {
-            rawValue[rawValue.length - 1] = 1;
+    private static void writeBool(Bool value, ByteBuffer buffer) {
+        writeUint(value.getValue() ? 1 : 0, buffer);
+    }
+
+    private static void writeBytes(byte[] value, ByteBuffer buffer) {
+        buffer.put(value);
+        for (int i = value.length; i < paddedLength(value.length); i++) {
+            buffer.put((byte) 0);
         }
-        return Numeric.toHexStringNoPrefix(rawValue);
     }
 
-    static String encodeBytes(BytesType bytesType) {
-        byte[] value = bytesType.getValue();
-        int length = value.length;
-        int mod = length % MAX_BYTE_LENGTH;
-
-        byte[] dest;
-        if (mod != 0) {
-            int padding = MAX_BYTE_LENGTH - mod;
-            dest = new byte[length + padding];
-            System.arraycopy(value, 0, dest, 0, length);
-        } else {
-            dest = value;
+    private static void writeDynamicBytes(byte[] value, ByteBuffer buffer) {
+        writeUint(value.length, buffer);
+        writeBytes(value, buffer);
+    }
+
+    private static void writeArrayValues(Array<?> value, ByteBuffer buffer) {
+        for (Type type : value.getValue()) {
+            encode(type, buffer);
         }
-        return Numeric.toHexStringNoPrefix(dest);
     }
 
-    static String encodeDynamicBytes(DynamicBytes dynamicBytes) {
-        int size = dynamicBytes.getValue().length;
-        String encodedLength = encode(new Uint(BigInteger.valueOf(size)));
-        String encodedValue = encodeBytes(dynamicBytes);
+    // strings in static arrays are written in place for compatibility, dynamic structs are not
+    private static void writeStaticArray(StaticArray<?> value, ByteBuffer buffer) {
+        if (hasDynamicStructElements(value)) {
+            writeArrayValuesOffsets(value, buffer);
+        }
+        writeArrayValues(value, buffer);
+    }
 
-        StringBuilder result = new StringBuilder();
-        result.append(encodedLength);
-        result.append(encodedValue);
-        return result.toString();
+    private static void writeDynamicArray(DynamicArray<?> value, ByteBuffer buffer) {
+        writeUint(value.getValue().size(), buffer);
+        if (hasDynamicElements(value)) {
+            writeArrayValuesOffsets(value, buffer);
+        }
+        writeArrayValues(value, buffer);
     }
 
-    static String encodeString(Utf8String string) {
-        byte[] utfEncoded = string.getValue().getBytes(StandardCharsets.UTF_8);
-        return encodeDynamicBytes(new DynamicBytes(utfEncoded));
+    // offsets of the elements relative to the first offset, which follow each other in order
+    private static void writeArrayValuesOffsets(Array<?> value, ByteBuffer buffer) {
+        long offset = (long) value.getValue().size() * MAX_BYTE_LENGTH;
+        for (Type element : value.getValue()) {
+            writeUint(offset, buffer);
+            offset += encodedLength(element);
+        }
     }
 
-    static <T extends Type> String encodeArrayValues(Array<T> value) {
-        StringBuilder result = new StringBuilder();
+    private static boolean hasDynamicElements(DynamicArray<?> value) {
+        List<?> values = value.getValue();
+        return !values.isEmpty() && isDynamic((Type) values.get(0));
+    }
+
+    private static boolean hasDynamicStructElements(StaticArray<?> value) {
+        List<?> values = value.getValue();
+        return !values.isEmpty() && values.get(0) instanceof DynamicStruct;
+    }
+
+    private static int arrayValuesLength(Array<?> value) {
+        int length = 0;
         for (Type type : value.getValue()) {
-            result.append(encode(type));
+            length += encodedLength(type);
         }
-        return result.toString();
+        return length;
     }
 
-    static <T extends Type> String encodeDynamicArray(DynamicArray<T> value) {
-        int size = value.getValue().size();
-        String encodedLength = encode(new Uint(BigInteger.valueOf(size)));
-        String valuesOffsets = encodeArrayValuesOffsets(value);
-        String encodedValues = encodeArrayValues(value);
-
-        StringBuilder result = new StringBuilder();
-        result.append(encodedLength);
-        result.append(valuesOffsets);
-        result.append(encodedValues);
-        return result.toString();
-    }
-
-    private static <T extends Type> String encodeArrayValuesOffsets(DynamicArray<T> value) {
-        StringBuilder result = new StringBuilder();
-        boolean arrayOfBytes =
-                !value.getValue().isEmpty() && value.getValue().get(0) instanceof DynamicBytes;
-        boolean arrayOfString =
-                !value.getValue().isEmpty() && value.getValue().get(0) instanceof Utf8String;
-        if (arrayOfBytes || arrayOfString) {
-            long offset = 0;
-            for (int i = 0; i < value.getValue().size(); i++) {
-                if (i == 0) {
-                    offset = value.getValue().size() * MAX_BYTE_LENGTH;
-                } else {
-                    int bytesLength =
-                            arrayOfBytes
-                                    ? ((byte[]) value.getValue().get(i - 1).getValue()).length
-                                    : ((String) value.getValue().get(i - 1).getValue()).length();
-                    int numberOfWords = (bytesLength + MAX_BYTE_LENGTH - 1) / MAX_BYTE_LENGTH;
-                    int totalBytesLength = numberOfWords * MAX_BYTE_LENGTH;
-                    offset += totalBytesLength + MAX_BYTE_LENGTH;
-                }
-                result.append(
-                        Numeric.toHexStringNoPrefix(
-                                Numeric.toBytesPadded(
-                                        new BigInteger(Long.toString(offset)), MAX_BYTE_LENGTH)));
+    private static int staticArrayLength(StaticArray<?> value) {
+        return (hasDynamicStructElements(value) ? value.getValue().size() * MAX_BYTE_LENGTH : 0)
+                + arrayValuesLength(value);
+    }
+
+    private static int dynamicArrayLength(DynamicArray<?> value) {
+        return MAX_BYTE_LENGTH
+                + (hasDynamicElements(value) ? value.getValue().size() * MAX_BYTE_LENGTH : 0)
+                + arrayValuesLength(value);
+    }
+
+    private static int paddedLength(int length) {
+        return (length + MAX_BYTE_LENGTH - 1) / MAX_BYTE_LENGTH * MAX_BYTE_LENGTH;
+    }
+
+    // number of bytes String.getBytes(UTF_8) produces, which replaces unpaired surrogates with '?'
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (!Character.isSurrogate(c)) {
+                length += 3;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 1;
             }
         }
-        return result.toString();
+        return length;
     }
 }
@@ -19,12 +19,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.web3j.abi.datatypes.AbiTypes;
 import org.web3j.abi.datatypes.DynamicArray;
 import org.web3j.abi.datatypes.DynamicBytes;
 import org.web3j.abi.datatypes.Fixed;
 import org.web3j.abi.datatypes.Int;
 import org.web3j.abi.datatypes.StaticArray;
+import org.web3j.abi.datatypes.StructType;
 import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.TypeMetadata;
 import org.web3j.abi.datatypes.Ufixed;
 import org.web3j.abi.datatypes.Uint;
 import org.web3j.abi.datatypes.Utf8String;
@@ -50,7 +53,18 @@ public class Utils {
         }
     }
 
+    @SuppressWarnings("unchecked")
     static String getSimpleTypeName(Class<?> type) {
+        if (Type.class.isAssignableFrom(type)) {
+            TypeMetadata<?> metadata = TypeMetadata.get((Class<Type>) type);
+            if (metadata != null) {
+                return metadata.getTypeName();
+            }
+        }
+        if (StructType.class.isAssignableFrom(type)) {
+            return AbiTypes.getTypeAString((Class<Type>) type);
+        }
+
         String simpleName = type.getSimpleName().toLowerCase();
 
         if (type.equals(Uint.class)
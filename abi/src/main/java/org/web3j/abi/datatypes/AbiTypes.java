@@ -372,6 +372,8 @@ public final class AbiTypes {
             return "string";
         } else if (DynamicBytes.class.equals(type)) {
             return "bytes";
+        } else if (StructType.class.isAssignableFrom(type)) {
+            return StructType.getTypeAsString(type.asSubclass(StructType.class));
         } else {
             return type.getSimpleName().toLowerCase();
         }
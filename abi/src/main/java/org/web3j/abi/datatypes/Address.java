@@ -77,7 +77,9 @@ public class Address implements Type<String> {
 
         Address address = (Address) o;
 
-        return value != null ? value.value.equals(address.value.value) : address.value == null;
+        return value != null
+                ? value.getValue().equals(address.value.getValue())
+                : address.value == null;
     }
 
     @Override
@@ -64,6 +64,15 @@ public abstract class Array<T extends Type> implements Type<List<T>> {
     @Override
     public abstract String getTypeAsString();
 
+    String getComponentTypeAsString() {
+        if ((StructType.class.isAssignableFrom(type) || Array.class.isAssignableFrom(type))
+                && !value.isEmpty()) {
+            // the values describe nested structs and arrays, which their classes do not
+            return value.get(0).getTypeAsString();
+        }
+        return AbiTypes.getTypeAString(type);
+    }
+
     private void checkValid(Class<T> type, List<T> values) {
         Objects.requireNonNull(type);
         Objects.requireNonNull(values);
@@ -22,6 +22,16 @@ public abstract class IntType extends NumericType {
     public IntType(String typePrefix, int bitSize, BigInteger value) {
         super(typePrefix + bitSize, value);
         this.bitSize = bitSize;
+        checkValid();
+    }
+
+    public IntType(String typePrefix, int bitSize, long value) {
+        super(typePrefix + bitSize, value);
+        this.bitSize = bitSize;
+        checkValid();
+    }
+
+    private void checkValid() {
         if (!valid()) {
             throw new UnsupportedOperationException(
                     "Bit size must be 8 bit aligned, "
@@ -35,14 +45,10 @@ public abstract class IntType extends NumericType {
     }
 
     protected boolean valid() {
-        return isValidBitSize(bitSize) && isValidBitCount(bitSize, value);
+        return isValidBitSize(bitSize) && bitLength() <= bitSize;
     }
 
     private static boolean isValidBitSize(int bitSize) {
         return bitSize % 8 == 0 && bitSize > 0 && bitSize <= MAX_BIT_LENGTH;
     }
-
-    private static boolean isValidBitCount(int bitSize, BigInteger value) {
-        return value.bitLength() <= bitSize;
-    }
 }
@@ -14,15 +14,30 @@ package org.web3j.abi.datatypes;
 
 import java.math.BigInteger;
 
-/** Common numeric type. */
+/**
+ * Common numeric type.
+ *
+ * <p>Values of up to 64 bits may be held as a primitive <code>long</code>, in which case the {@link
+ * BigInteger} returned by {@link #getValue()} is only created on first access.
+ */
 public abstract class NumericType implements Type<BigInteger> {
 
     private String type;
     BigInteger value;
+    private final boolean longValued;
+    private final long longValue;
 
     public NumericType(String type, BigInteger value) {
         this.type = type;
         this.value = value;
+        this.longValued = false;
+        this.longValue = 0;
+    }
+
+    public NumericType(String type, long value) {
+        this.type = type;
+        this.longValued = true;
+        this.longValue = value;
     }
 
     @Override
@@ -32,11 +47,46 @@ public abstract class NumericType implements Type<BigInteger> {
 
     @Override
     public BigInteger getValue() {
+        if (value == null && longValued) {
+            value = BigInteger.valueOf(longValue);
+        }
         return value;
     }
 
+    /**
+     * Returns true if the value is held as a primitive <code>long</code>, so that {@link
+     * #longValue()} is exact and does not need a {@link BigInteger}.
+     *
+     * @return whether the value is held as a long
+     */
+    public boolean hasLongValue() {
+        return longValued;
+    }
+
+    /**
+     * Returns the value as a <code>long</code>, truncated as by {@link BigInteger#longValue()} if
+     * it is not held as one.
+     *
+     * @return the value as a long
+     */
+    public long longValue() {
+        return longValued ? longValue : value.longValue();
+    }
+
     public abstract int getBitSize();
 
+    int bitLength() {
+        if (!longValued) {
+            return value.bitLength();
+        }
+        // the bit length of a two's complement value, excluding the sign bit
+        return Long.SIZE - Long.numberOfLeadingZeros(longValue < 0 ? ~longValue : longValue);
+    }
+
+    int signum() {
+        return longValued ? Long.signum(longValue) : value.signum();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -52,13 +102,31 @@ public abstract class NumericType implements Type<BigInteger> {
             return false;
         }
 
-        return value != null ? value.equals(that.value) : that.value == null;
+        if (longValued && that.longValued) {
+            return longValue == that.longValue;
+        }
+        BigInteger value = getValue();
+        return value != null ? value.equals(that.getValue()) : that.getValue() == null;
     }
 
     @Override
     public int hashCode() {
         int result = type.hashCode();
-        result = 31 * result + (value != null ? value.hashCode() : 0);
+        result = 31 * result + (longValued ? hashCode(longValue) : hashCode(value));
         return result;
     }
+
+    private static int hashCode(BigInteger value) {
+        return value != null ? value.hashCode() : 0;
+    }
+
+    /** Computes {@link BigInteger#hashCode()} of the given value without creating it. */
+    private static int hashCode(long value) {
+        // BigInteger hashes the 32-bit words of its magnitude, most significant first
+        long magnitude = Math.abs(value);
+        int high = (int) (magnitude >>> 32);
+        int low = (int) magnitude;
+        int hashCode = high != 0 ? 31 * high + low : low;
+        return hashCode * Long.signum(value);
+    }
 }
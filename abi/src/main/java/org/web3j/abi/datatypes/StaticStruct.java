@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi.datatypes;
+
+import java.util.Arrays;
+import java.util.List;
+
+/** Struct whose components are all of static size, encoded in place. */
+public class StaticStruct extends StructType {
+
+    public StaticStruct(Type... values) {
+        this(Arrays.asList(values));
+    }
+
+    public StaticStruct(List<Type> values) {
+        super(values);
+        checkValid(values);
+    }
+
+    private static void checkValid(List<Type> values) {
+        for (Type value : values) {
+            if (value instanceof DynamicBytes
+                    || value instanceof Utf8String
+                    || value instanceof DynamicArray
+                    || value instanceof DynamicStruct) {
+                throw new UnsupportedOperationException(
+                        "Static structs cannot contain " + value.getTypeAsString() + " values");
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi.datatypes;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tuple of values, the ABI encoding of a Solidity struct.
+ *
+ * <p>To decode a struct, declare a subclass of {@link StaticStruct} or {@link DynamicStruct} with a
+ * public constructor taking the components in order, for example:
+ *
+ * <pre>
+ * public class Call extends DynamicStruct {
+ *     public Call(Address target, DynamicBytes callData) {
+ *         super(target, callData);
+ *     }
+ * }
+ * </pre>
+ *
+ * The parameter types of that constructor describe the layout of the struct.
+ */
+public abstract class StructType implements Type<List<Type>> {
+
+    private final List<Type> value;
+
+    StructType(List<Type> values) {
+        Objects.requireNonNull(values);
+        this.value = Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public List<Type> getValue() {
+        return value;
+    }
+
+    @Override
+    public String getTypeAsString() {
+        StringBuilder result = new StringBuilder("(");
+        for (int i = 0; i < value.size(); i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append(value.get(i).getTypeAsString());
+        }
+        return result.append(')').toString();
+    }
+
+    /**
+     * Returns the constructor taking the components of the given struct class.
+     *
+     * @param type struct class
+     * @param <T> struct type
+     * @return the public constructor with the most parameters, all of which are ABI types
+     * @throws UnsupportedOperationException if the class declares no such constructor
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends StructType> Constructor<T> getComponentsConstructor(Class<T> type) {
+        Constructor<T> result = null;
+        for (Constructor<?> constructor : type.getConstructors()) {
+            if (isComponentsConstructor(constructor)
+                    && (result == null
+                            || constructor.getParameterCount() > result.getParameterCount())) {
+                result = (Constructor<T>) constructor;
+            }
+        }
+        if (result == null || Modifier.isAbstract(type.getModifiers())) {
+            throw new UnsupportedOperationException(
+                    "Struct "
+                            + type.getName()
+                            + " must declare a public constructor taking its components");
+        }
+        return result;
+    }
+
+    /**
+     * Returns the Solidity type of a struct class, such as <code>(address,bytes)</code>.
+     *
+     * @param type struct class
+     * @return type of the components in parentheses
+     */
+    public static String getTypeAsString(Class<? extends StructType> type) {
+        java.lang.reflect.Type[] componentTypes =
+                getComponentsConstructor(type).getGenericParameterTypes();
+        StringBuilder result = new StringBuilder("(");
+        for (int i = 0; i < componentTypes.length; i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append(getTypeAsString(componentTypes[i]));
+        }
+        return result.append(')').toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String getTypeAsString(java.lang.reflect.Type componentType) {
+        if (componentType instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) componentType;
+            Class<?> arrayType = (Class<?>) parameterizedType.getRawType();
+            String elementType = getTypeAsString(parameterizedType.getActualTypeArguments()[0]);
+            if (DynamicArray.class.isAssignableFrom(arrayType)) {
+                return elementType + "[]";
+            } else if (StaticArray.class.isAssignableFrom(arrayType)
+                    && arrayType != StaticArray.class) {
+                return elementType
+                        + "["
+                        + arrayType
+                                .getSimpleName()
+                                .substring(StaticArray.class.getSimpleName().length())
+                        + "]";
+            }
+        } else if (componentType instanceof Class) {
+            return AbiTypes.getTypeAString((Class<? extends Type>) componentType);
+        }
+        throw new UnsupportedOperationException("Unsupported struct component: " + componentType);
+    }
+
+    private static boolean isComponentsConstructor(Constructor<?> constructor) {
+        if (constructor.getParameterCount() == 0 || constructor.isVarArgs()) {
+            return false;
+        }
+        for (Class<?> parameterType : constructor.getParameterTypes()) {
+            if (!Type.class.isAssignableFrom(parameterType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        StructType structType = (StructType) o;
+
+        return value.equals(structType.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi.datatypes;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.web3j.abi.datatypes.generated.Bytes1;
+import org.web3j.abi.datatypes.generated.Bytes10;
+import org.web3j.abi.datatypes.generated.Bytes11;
+import org.web3j.abi.datatypes.generated.Bytes12;
+import org.web3j.abi.datatypes.generated.Bytes13;
+import org.web3j.abi.datatypes.generated.Bytes14;
+import org.web3j.abi.datatypes.generated.Bytes15;
+import org.web3j.abi.datatypes.generated.Bytes16;
+import org.web3j.abi.datatypes.generated.Bytes17;
+import org.web3j.abi.datatypes.generated.Bytes18;
+import org.web3j.abi.datatypes.generated.Bytes19;
+import org.web3j.abi.datatypes.generated.Bytes2;
+import org.web3j.abi.datatypes.generated.Bytes20;
+import org.web3j.abi.datatypes.generated.Bytes21;
+import org.web3j.abi.datatypes.generated.Bytes22;
+import org.web3j.abi.datatypes.generated.Bytes23;
+import org.web3j.abi.datatypes.generated.Bytes24;
+import org.web3j.abi.datatypes.generated.Bytes25;
+import org.web3j.abi.datatypes.generated.Bytes26;
+import org.web3j.abi.datatypes.generated.Bytes27;
+import org.web3j.abi.datatypes.generated.Bytes28;
+import org.web3j.abi.datatypes.generated.Bytes29;
+import org.web3j.abi.datatypes.generated.Bytes3;
+import org.web3j.abi.datatypes.generated.Bytes30;
+import org.web3j.abi.datatypes.generated.Bytes31;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Bytes4;
+import org.web3j.abi.datatypes.generated.Bytes5;
+import org.web3j.abi.datatypes.generated.Bytes6;
+import org.web3j.abi.datatypes.generated.Bytes7;
+import org.web3j.abi.datatypes.generated.Bytes8;
+import org.web3j.abi.datatypes.generated.Bytes9;
+import org.web3j.abi.datatypes.generated.Int104;
+import org.web3j.abi.datatypes.generated.Int112;
+import org.web3j.abi.datatypes.generated.Int120;
+import org.web3j.abi.datatypes.generated.Int128;
+import org.web3j.abi.datatypes.generated.Int136;
+import org.web3j.abi.datatypes.generated.Int144;
+import org.web3j.abi.datatypes.generated.Int152;
+import org.web3j.abi.datatypes.generated.Int16;
+import org.web3j.abi.datatypes.generated.Int160;
+import org.web3j.abi.datatypes.generated.Int168;
+import org.web3j.abi.datatypes.generated.Int176;
+import org.web3j.abi.datatypes.generated.Int184;
+import org.web3j.abi.datatypes.generated.Int192;
+import org.web3j.abi.datatypes.generated.Int200;
+import org.web3j.abi.datatypes.generated.Int208;
+import org.web3j.abi.datatypes.generated.Int216;
+import org.web3j.abi.datatypes.generated.Int224;
+import org.web3j.abi.datatypes.generated.Int232;
+import org.web3j.abi.datatypes.generated.Int24;
+import org.web3j.abi.datatypes.generated.Int240;
+import org.web3j.abi.datatypes.generated.Int248;
+import org.web3j.abi.datatypes.generated.Int256;
+import org.web3j.abi.datatypes.generated.Int32;
+import org.web3j.abi.datatypes.generated.Int40;
+import org.web3j.abi.datatypes.generated.Int48;
+import org.web3j.abi.datatypes.generated.Int56;
+import org.web3j.abi.datatypes.generated.Int64;
+import org.web3j.abi.datatypes.generated.Int72;
+import org.web3j.abi.datatypes.generated.Int8;
+import org.web3j.abi.datatypes.generated.Int80;
+import org.web3j.abi.datatypes.generated.Int88;
+import org.web3j.abi.datatypes.generated.Int96;
+import org.web3j.abi.datatypes.generated.Uint104;
+import org.web3j.abi.datatypes.generated.Uint112;
+import org.web3j.abi.datatypes.generated.Uint120;
+import org.web3j.abi.datatypes.generated.Uint128;
+import org.web3j.abi.datatypes.generated.Uint136;
+import org.web3j.abi.datatypes.generated.Uint144;
+import org.web3j.abi.datatypes.generated.Uint152;
+import org.web3j.abi.datatypes.generated.Uint16;
+import org.web3j.abi.datatypes.generated.Uint160;
+import org.web3j.abi.datatypes.generated.Uint168;
+import org.web3j.abi.datatypes.generated.Uint176;
+import org.web3j.abi.datatypes.generated.Uint184;
+import org.web3j.abi.datatypes.generated.Uint192;
+import org.web3j.abi.datatypes.generated.Uint200;
+import org.web3j.abi.datatypes.generated.Uint208;
+import org.web3j.abi.datatypes.generated.Uint216;
+import org.web3j.abi.datatypes.generated.Uint224;
+import org.web3j.abi.datatypes.generated.Uint232;
+import org.web3j.abi.datatypes.generated.Uint24;
+import org.web3j.abi.datatypes.generated.Uint240;
+import org.web3j.abi.datatypes.generated.Uint248;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint32;
+import org.web3j.abi.datatypes.generated.Uint40;
+import org.web3j.abi.datatypes.generated.Uint48;
+import org.web3j.abi.datatypes.generated.Uint56;
+import org.web3j.abi.datatypes.generated.Uint64;
+import org.web3j.abi.datatypes.generated.Uint72;
+import org.web3j.abi.datatypes.generated.Uint8;
+import org.web3j.abi.datatypes.generated.Uint80;
+import org.web3j.abi.datatypes.generated.Uint88;
+import org.web3j.abi.datatypes.generated.Uint96;
+
+/**
+ * Precomputed properties of the ABI value types, so that encoding and decoding do not need to parse
+ * class names or look up constructors by reflection. Covers {@link Address}, {@link Bool}, {@link
+ * Utf8String}, {@link DynamicBytes}, {@link Uint}, {@link Int} and the generated integer and fixed
+ * size bytes types.
+ *
+ * @param <T> the registered type
+ */
+public final class TypeMetadata<T extends Type> {
+
+    private static final Map<Class<?>, TypeMetadata<?>> REGISTRY = new HashMap<>();
+
+    static {
+        register(
+                Address.class,
+                Address.TYPE_NAME,
+                Address.DEFAULT_LENGTH,
+                false,
+                false,
+                (BigInteger value) -> new Address(value));
+        register(Bool.class, "bool", 0, false, false, (Boolean value) -> new Bool(value));
+        register(Utf8String.class, "string", 0, false, true, Utf8String::new);
+        register(DynamicBytes.class, "bytes", 0, false, true, DynamicBytes::new);
+        registerUint(Uint.class, Type.MAX_BIT_LENGTH, Uint::new);
+        registerInt(Int.class, Type.MAX_BIT_LENGTH, Int::new);
+
+        registerUint(Uint8.class, 8, Uint8::new, Uint8::new);
+        registerUint(Uint16.class, 16, Uint16::new, Uint16::new);
+        registerUint(Uint24.class, 24, Uint24::new, Uint24::new);
+        registerUint(Uint32.class, 32, Uint32::new, Uint32::new);
+        registerUint(Uint40.class, 40, Uint40::new, Uint40::new);
+        registerUint(Uint48.class, 48, Uint48::new, Uint48::new);
+        registerUint(Uint56.class, 56, Uint56::new, Uint56::new);
+        registerUint(Uint64.class, 64, Uint64::new, Uint64::new);
+        registerUint(Uint72.class, 72, Uint72::new);
+        registerUint(Uint80.class, 80, Uint80::new);
+        registerUint(Uint88.class, 88, Uint88::new);
+        registerUint(Uint96.class, 96, Uint96::new);
+        registerUint(Uint104.class, 104, Uint104::new);
+        registerUint(Uint112.class, 112, Uint112::new);
+        registerUint(Uint120.class, 120, Uint120::new);
+        registerUint(Uint128.class, 128, Uint128::new);
+        registerUint(Uint136.class, 136, Uint136::new);
+        registerUint(Uint144.class, 144, Uint144::new);
+        registerUint(Uint152.class, 152, Uint152::new);
+        registerUint(Uint160.class, 160, Uint160::new);
+        registerUint(Uint168.class, 168, Uint168::new);
+        registerUint(Uint176.class, 176, Uint176::new);
+        registerUint(Uint184.class, 184, Uint184::new);
+        registerUint(Uint192.class, 192, Uint192::new);
+        registerUint(Uint200.class, 200, Uint200::new);
+        registerUint(Uint208.class, 208, Uint208::new);
+        registerUint(Uint216.class, 216, Uint216::new);
+        registerUint(Uint224.class, 224, Uint224::new);
+        registerUint(Uint232.class, 232, Uint232::new);
+        registerUint(Uint240.class, 240, Uint240::new);
+        registerUint(Uint248.class, 248, Uint248::new);
+        registerUint(Uint256.class, 256, Uint256::new);
+
+        registerInt(Int8.class, 8, Int8::new, Int8::new);
+        registerInt(Int16.class, 16, Int16::new, Int16::new);
+        registerInt(Int24.class, 24, Int24::new, Int24::new);
+        registerInt(Int32.class, 32, Int32::new, Int32::new);
+        registerInt(Int40.class, 40, Int40::new, Int40::new);
+        registerInt(Int48.class, 48, Int48::new, Int48::new);
+        registerInt(Int56.class, 56, Int56::new, Int56::new);
+        registerInt(Int64.class, 64, Int64::new, Int64::new);
+        registerInt(Int72.class, 72, Int72::new);
+        registerInt(Int80.class, 80, Int80::new);
+        registerInt(Int88.class, 88, Int88::new);
+        registerInt(Int96.class, 96, Int96::new);
+        registerInt(Int104.class, 104, Int104::new);
+        registerInt(Int112.class, 112, Int112::new);
+        registerInt(Int120.class, 120, Int120::new);
+        registerInt(Int128.class, 128, Int128::new);
+        registerInt(Int136.class, 136, Int136::new);
+        registerInt(Int144.class, 144, Int144::new);
+        registerInt(Int152.class, 152, Int152::new);
+        registerInt(Int160.class, 160, Int160::new);
+        registerInt(Int168.class, 168, Int168::new);
+        registerInt(Int176.class, 176, Int176::new);
+        registerInt(Int184.class, 184, Int184::new);
+        registerInt(Int192.class, 192, Int192::new);
+        registerInt(Int200.class, 200, Int200::new);
+        registerInt(Int208.class, 208, Int208::new);
+        registerInt(Int216.class, 216, Int216::new);
+        registerInt(Int224.class, 224, Int224::new);
+        registerInt(Int232.class, 232, Int232::new);
+        registerInt(Int240.class, 240, Int240::new);
+        registerInt(Int248.class, 248, Int248::new);
+        registerInt(Int256.class, 256, Int256::new);
+
+        registerBytes(Bytes1.class, 1, Bytes1::new);
+        registerBytes(Bytes2.class, 2, Bytes2::new);
+        registerBytes(Bytes3.class, 3, Bytes3::new);
+        registerBytes(Bytes4.class, 4, Bytes4::new);
+        registerBytes(Bytes5.class, 5, Bytes5::new);
+        registerBytes(Bytes6.class, 6, Bytes6::new);
+        registerBytes(Bytes7.class, 7, Bytes7::new);
+        registerBytes(Bytes8.class, 8, Bytes8::new);
+        registerBytes(Bytes9.class, 9, Bytes9::new);
+        registerBytes(Bytes10.class, 10, Bytes10::new);
+        registerBytes(Bytes11.class, 11, Bytes11::new);
+        registerBytes(Bytes12.class, 12, Bytes12::new);
+        registerBytes(Bytes13.class, 13, Bytes13::new);
+        registerBytes(Bytes14.class, 14, Bytes14::new);
+        registerBytes(Bytes15.class, 15, Bytes15::new);
+        registerBytes(Bytes16.class, 16, Bytes16::new);
+        registerBytes(Bytes17.class, 17, Bytes17::new);
+        registerBytes(Bytes18.class, 18, Bytes18::new);
+        registerBytes(Bytes19.class, 19, Bytes19::new);
+        registerBytes(Bytes20.class, 20, Bytes20::new);
+        registerBytes(Bytes21.class, 21, Bytes21::new);
+        registerBytes(Bytes22.class, 22, Bytes22::new);
+        registerBytes(Bytes23.class, 23, Bytes23::new);
+        registerBytes(Bytes24.class, 24, Bytes24::new);
+        registerBytes(Bytes25.class, 25, Bytes25::new);
+        registerBytes(Bytes26.class, 26, Bytes26::new);
+        registerBytes(Bytes27.class, 27, Bytes27::new);
+        registerBytes(Bytes28.class, 28, Bytes28::new);
+        registerBytes(Bytes29.class, 29, Bytes29::new);
+        registerBytes(Bytes30.class, 30, Bytes30::new);
+        registerBytes(Bytes31.class, 31, Bytes31::new);
+        registerBytes(Bytes32.class, 32, Bytes32::new);
+    }
+
+    private final Class<T> type;
+    private final String typeName;
+    private final int bitSize;
+    private final boolean signed;
+    private final boolean dynamic;
+    private final Function<Object, T> factory;
+    private final LongFunction<T> longFactory;
+
+    private TypeMetadata(
+            Class<T> type,
+            String typeName,
+            int bitSize,
+            boolean signed,
+            boolean dynamic,
+            Function<Object, T> factory,
+            LongFunction<T> longFactory) {
+        this.type = type;
+        this.typeName = typeName;
+        this.bitSize = bitSize;
+        this.signed = signed;
+        this.dynamic = dynamic;
+        this.factory = factory;
+        this.longFactory = longFactory;
+    }
+
+    /**
+     * Returns the metadata of the given type.
+     *
+     * @param type ABI type class
+     * @param <T> ABI type
+     * @return metadata, or null if the type is not registered, such as array types or user defined
+     *     subclasses
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Type> TypeMetadata<T> get(Class<T> type) {
+        return (TypeMetadata<T>) REGISTRY.get(type);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the canonical Solidity name of the type, such as <code>uint256</code> or <code>
+     * bytes32</code>.
+     *
+     * @return type name
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Returns the size of values of this type: the bit width of integer and address types, and 8
+     * times the length of fixed size bytes types. Zero for other types.
+     *
+     * @return size in bits
+     */
+    public int getBitSize() {
+        return bitSize;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    /**
+     * Returns true for types whose encoding is stored in the dynamic section, referenced by an
+     * offset.
+     *
+     * @return whether the type is dynamic
+     */
+    public boolean isDynamic() {
+        return dynamic;
+    }
+
+    /**
+     * Create an instance of this type without reflection.
+     *
+     * @param value a {@link BigInteger} for integer and address types, a {@link Boolean} for bool,
+     *     a {@link String} for string and a <code>byte[]</code> for bytes types
+     * @return new instance
+     */
+    public T newInstance(Object value) {
+        return factory.apply(value);
+    }
+
+    /**
+     * Returns true for integer types of at most 64 bits, which can be created from a primitive
+     * <code>long</code> with {@link #newInstance(long)}.
+     *
+     * @return whether the type can hold its values as a long
+     */
+    public boolean hasLongValues() {
+        return longFactory != null;
+    }
+
+    /**
+     * Create an instance of an integer type of at most 64 bits, holding the value as a primitive
+     * <code>long</code> rather than a {@link BigInteger}.
+     *
+     * @param value integer value
+     * @return new instance
+     * @throws UnsupportedOperationException if {@link #hasLongValues()} is false
+     */
+    public T newInstance(long value) {
+        if (longFactory == null) {
+            throw new UnsupportedOperationException(typeName + " values cannot be held as a long");
+        }
+        return longFactory.apply(value);
+    }
+
+    private static <T extends Type, V> void register(
+            Class<T> type,
+            String typeName,
+            int bitSize,
+            boolean signed,
+            boolean dynamic,
+            Function<V, T> factory) {
+        register(type, typeName, bitSize, signed, dynamic, factory, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Type, V> void register(
+            Class<T> type,
+            String typeName,
+            int bitSize,
+            boolean signed,
+            boolean dynamic,
+            Function<V, T> factory,
+            LongFunction<T> longFactory) {
+        REGISTRY.put(
+                type,
+                new TypeMetadata<>(
+                        type,
+                        typeName,
+                        bitSize,
+                        signed,
+                        dynamic,
+                        value -> factory.apply((V) value),
+                        longFactory));
+    }
+
+    private static <T extends Type> void registerUint(
+            Class<T> type, int bitSize, Function<BigInteger, T> factory) {
+        registerUint(type, bitSize, factory, null);
+    }
+
+    private static <T extends Type> void registerUint(
+            Class<T> type,
+            int bitSize,
+            Function<BigInteger, T> factory,
+            LongFunction<T> longFactory) {
+        register(type, "uint" + bitSize, bitSize, false, false, factory, longFactory);
+    }
+
+    private static <T extends Type> void registerInt(
+            Class<T> type, int bitSize, Function<BigInteger, T> factory) {
+        registerInt(type, bitSize, factory, null);
+    }
+
+    private static <T extends Type> void registerInt(
+            Class<T> type,
+            int bitSize,
+            Function<BigInteger, T> factory,
+            LongFunction<T> longFactory) {
+        register(type, "int" + bitSize, bitSize, true, false, factory, longFactory);
+    }
+
+    private static <T extends Type> void registerBytes(
+            Class<T> type, int length, Function<byte[], T> factory) {
+        register(type, "bytes" + length, length * Byte.SIZE, false, false, factory);
+    }
+}
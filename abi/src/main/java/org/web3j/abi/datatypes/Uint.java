@@ -24,6 +24,10 @@ public class Uint extends IntType {
         super(TYPE_NAME, bitSize, value);
     }
 
+    protected Uint(int bitSize, long value) {
+        super(TYPE_NAME, bitSize, value);
+    }
+
     public Uint(BigInteger value) {
         // "int" values should be declared as int256 in computing function selectors
         this(MAX_BIT_LENGTH, value);
@@ -31,6 +35,6 @@ public class Uint extends IntType {
 
     @Override
     protected boolean valid() {
-        return super.valid() && 0 <= value.signum();
+        return super.valid() && 0 <= signum();
     }
 }
@@ -17,6 +17,6 @@ public class Int32 extends Int {
     }
 
     public Int32(long value) {
-        this(BigInteger.valueOf(value));
+        super(32, value);
     }
 }
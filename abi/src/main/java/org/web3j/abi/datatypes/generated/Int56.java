@@ -17,6 +17,6 @@ public class Int56 extends Int {
     }
 
     public Int56(long value) {
-        this(BigInteger.valueOf(value));
+        super(56, value);
     }
 }
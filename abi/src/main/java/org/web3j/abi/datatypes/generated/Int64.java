@@ -17,6 +17,6 @@ public class Int64 extends Int {
     }
 
     public Int64(long value) {
-        this(BigInteger.valueOf(value));
+        super(64, value);
     }
 }
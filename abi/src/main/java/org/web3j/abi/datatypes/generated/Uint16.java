@@ -17,6 +17,6 @@ public class Uint16 extends Uint {
     }
 
     public Uint16(long value) {
-        this(BigInteger.valueOf(value));
+        super(16, value);
     }
 }
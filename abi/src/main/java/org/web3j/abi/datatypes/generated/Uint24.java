@@ -17,6 +17,6 @@ public class Uint24 extends Uint {
     }
 
     public Uint24(long value) {
-        this(BigInteger.valueOf(value));
+        super(24, value);
     }
 }
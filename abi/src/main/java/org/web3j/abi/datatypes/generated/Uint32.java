@@ -17,6 +17,6 @@ public class Uint32 extends Uint {
     }
 
     public Uint32(long value) {
-        this(BigInteger.valueOf(value));
+        super(32, value);
     }
 }
@@ -17,6 +17,6 @@ public class Uint40 extends Uint {
     }
 
     public Uint40(long value) {
-        this(BigInteger.valueOf(value));
+        super(40, value);
     }
 }
@@ -17,6 +17,6 @@ public class Uint64 extends Uint {
     }
 
     public Uint64(long value) {
-        this(BigInteger.valueOf(value));
+        super(64, value);
     }
 }
@@ -17,6 +17,6 @@ public class Uint8 extends Uint {
     }
 
     public Uint8(long value) {
-        this(BigInteger.valueOf(value));
+        super(8, value);
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkDecoderTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testDecodeAllKeepsOrder() {
+        List<Integer> inputs = range(10_000);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        List<String> results =
+                BulkDecoder.decodeAll(
+                        inputs,
+                        input -> {
+                            threads.add(Thread.currentThread());
+                            return Integer.toHexString(input);
+                        },
+                        executor);
+
+        assertEquals(results.size(), (inputs.size()));
+        for (int i = 0; i < inputs.size(); i++) {
+            assertEquals(results.get(i), (Integer.toHexString(i)));
+        }
+        assertTrue(threads.size() > 1);
+    }
+
+    @Test
+    public void testDecodeAllOfFewInputsOnCallingThread() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        List<Integer> results =
+                BulkDecoder.decodeAll(
+                        range(BulkDecoder.MIN_CHUNK_SIZE),
+                        input -> {
+                            threads.add(Thread.currentThread());
+                            return input * 2;
+                        },
+                        executor);
+
+        assertEquals(results.get(BulkDecoder.MIN_CHUNK_SIZE - 1), (62));
+        assertEquals(threads.size(), (1));
+        assertTrue(threads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void testDecodeAllOfLinkedList() {
+        List<Integer> results =
+                BulkDecoder.decodeAll(new LinkedList<>(range(1000)), Function.identity(), executor);
+
+        assertEquals(results, (range(1000)));
+    }
+
+    @Test
+    public void testDecodeAllRethrows() {
+        assertThrows(
+                UnsupportedOperationException.class,
+                () ->
+                        BulkDecoder.decodeAll(
+                                range(1000),
+                                input -> {
+                                    if (input == 100) {
+                                        throw new UnsupportedOperationException();
+                                    }
+                                    return input;
+                                },
+                                executor));
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+}
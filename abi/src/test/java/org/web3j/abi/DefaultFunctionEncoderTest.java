@@ -20,9 +20,12 @@ import org.junit.jupiter.api.Test;
 
 import org.web3j.abi.datatypes.*;
 import org.web3j.abi.datatypes.generated.Bytes10;
+import org.web3j.abi.datatypes.generated.StaticArray2;
 import org.web3j.abi.datatypes.generated.Uint256;
 import org.web3j.abi.datatypes.generated.Uint32;
+import org.web3j.utils.Numeric;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class DefaultFunctionEncoderTest {
@@ -143,6 +146,135 @@ public class DefaultFunctionEncoderTest {
                 FunctionEncoder.encode(function));
     }
 
+    @Test
+    public void testFunctionStaticStructEncode() {
+        Function function =
+                new Function(
+                        "f",
+                        Arrays.asList(
+                                new StaticStruct(new Uint256(BigInteger.ONE), new Bool(true)),
+                                new Uint256(BigInteger.valueOf(5))),
+                        Collections.emptyList());
+
+        assertEquals(
+                "f((uint256,bool),uint256)",
+                FunctionEncoder.buildMethodSignature(
+                        function.getName(), function.getInputParameters()));
+        assertEquals(
+                FunctionEncoder.buildMethodId("f((uint256,bool),uint256)")
+                        + "0000000000000000000000000000000000000000000000000000000000000001"
+                        + "0000000000000000000000000000000000000000000000000000000000000001"
+                        + "0000000000000000000000000000000000000000000000000000000000000005",
+                FunctionEncoder.encode(function));
+    }
+
+    @Test
+    public void testFunctionDynamicStructArrayEncode() {
+        Function function =
+                new Function(
+                        "aggregate",
+                        Collections.singletonList(
+                                new DynamicArray<>(
+                                        DynamicStruct.class,
+                                        new DynamicStruct(
+                                                new Address(
+                                                        "0x1111111111111111111111111111111111111111"),
+                                                new DynamicBytes(new byte[] {1, 2, 3, 4})),
+                                        new DynamicStruct(
+                                                new Address(
+                                                        "0x2222222222222222222222222222222222222222"),
+                                                new DynamicBytes(new byte[0])))),
+                        Collections.emptyList());
+
+        assertEquals(
+                "0x252dba42"
+                        + "0000000000000000000000000000000000000000000000000000000000000020"
+                        + "0000000000000000000000000000000000000000000000000000000000000002"
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "00000000000000000000000000000000000000000000000000000000000000c0"
+                        + "0000000000000000000000001111111111111111111111111111111111111111"
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "0000000000000000000000000000000000000000000000000000000000000004"
+                        + "0102030400000000000000000000000000000000000000000000000000000000"
+                        + "0000000000000000000000002222222222222222222222222222222222222222"
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "0000000000000000000000000000000000000000000000000000000000000000",
+                FunctionEncoder.encode(function));
+    }
+
+    @Test
+    public void testFunctionStaticDynamicStructArrayEncode() {
+        Function function =
+                new Function(
+                        "aggregate",
+                        Collections.singletonList(
+                                new StaticArray2<>(
+                                        DynamicStruct.class,
+                                        new DynamicStruct(
+                                                new Address(
+                                                        "0x1111111111111111111111111111111111111111"),
+                                                new DynamicBytes(new byte[] {1, 2, 3, 4})),
+                                        new DynamicStruct(
+                                                new Address(
+                                                        "0x2222222222222222222222222222222222222222"),
+                                                new DynamicBytes(new byte[0])))),
+                        Collections.emptyList());
+
+        assertEquals(
+                "aggregate((address,bytes)[2])",
+                FunctionEncoder.buildMethodSignature(
+                        function.getName(), function.getInputParameters()));
+        assertEquals(
+                FunctionEncoder.buildMethodId("aggregate((address,bytes)[2])")
+                        + "0000000000000000000000000000000000000000000000000000000000000020"
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "00000000000000000000000000000000000000000000000000000000000000c0"
+                        + "0000000000000000000000001111111111111111111111111111111111111111"
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "0000000000000000000000000000000000000000000000000000000000000004"
+                        + "0102030400000000000000000000000000000000000000000000000000000000"
+                        + "0000000000000000000000002222222222222222222222222222222222222222"
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "0000000000000000000000000000000000000000000000000000000000000000",
+                FunctionEncoder.encode(function));
+    }
+
+    @Test
+    public void testFunctionEncodeToBytes() {
+        Function function =
+                new Function(
+                        "f",
+                        Arrays.asList(
+                                new Uint(BigInteger.valueOf(0x123)),
+                                new DynamicArray<>(
+                                        new Utf8String("one"), new Utf8String("\u00e9t\u00e9")),
+                                new Int(BigInteger.valueOf(-2)),
+                                new Address("0x3535353535353535353535353535353535353535"),
+                                new Utf8String("Hello, world!")),
+                        Collections.emptyList());
+
+        String expected =
+                "0xa0813943"
+                        + "0000000000000000000000000000000000000000000000000000000000000123"
+                        + "00000000000000000000000000000000000000000000000000000000000000a0"
+                        + "fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe"
+                        + "0000000000000000000000003535353535353535353535353535353535353535"
+                        + "0000000000000000000000000000000000000000000000000000000000000180"
+                        + "0000000000000000000000000000000000000000000000000000000000000002"
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "0000000000000000000000000000000000000000000000000000000000000080"
+                        + "0000000000000000000000000000000000000000000000000000000000000003"
+                        + "6f6e650000000000000000000000000000000000000000000000000000000000"
+                        + "0000000000000000000000000000000000000000000000000000000000000005"
+                        + "c3a974c3a9000000000000000000000000000000000000000000000000000000"
+                        + "000000000000000000000000000000000000000000000000000000000000000d"
+                        + "48656c6c6f2c20776f726c642100000000000000000000000000000000000000";
+
+        assertEquals(expected, FunctionEncoder.encode(function));
+        assertArrayEquals(
+                Numeric.hexStringToByteArray(expected), FunctionEncoder.encodeToBytes(function));
+    }
+
     @Test
     public void testMakeFunction()
             throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException,
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.StaticArray;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FunctionCodecTest {
+
+    @Test
+    public void testCachedPerShape() {
+        FunctionCodec codec = FunctionCodec.of(balanceOf("0x01"));
+
+        assertSame(codec, FunctionCodec.of(balanceOf("0x02")));
+        assertNotSame(
+                codec,
+                FunctionCodec.of(
+                        new Function(
+                                "balanceOf",
+                                Collections.singletonList(new Address("0x01")),
+                                Collections.singletonList(new TypeReference<Address>() {}))));
+        assertEquals(codec.getMethodSignature(), ("balanceOf(address)"));
+        assertEquals(codec.getMethodId(), ("0x70a08231"));
+    }
+
+    @Test
+    public void testEncode() {
+        Function function = balanceOf("0x3535353535353535353535353535353535353535");
+
+        assertEquals(
+                FunctionCodec.of(function).encode(function.getInputParameters()),
+                (FunctionEncoder.encode(function)));
+        assertEquals(
+                FunctionCodec.of(function).encode(Collections.singletonList(new Address("0x1234"))),
+                ("0x70a08231"
+                        + "0000000000000000000000000000000000000000000000000000000000001234"));
+    }
+
+    @Test
+    public void testDecode() {
+        Function function =
+                new Function(
+                        "multiReturn",
+                        Collections.emptyList(),
+                        Arrays.asList(
+                                new TypeReference<Uint256>() {},
+                                new TypeReference<Utf8String>() {},
+                                new TypeReference<DynamicArray<Address>>() {}));
+        String encoded =
+                FunctionEncoder.encodeConstructor(
+                        Arrays.asList(
+                                new Uint256(BigInteger.TEN),
+                                new Utf8String("web3j"),
+                                new DynamicArray<>(
+                                        Address.class, new Address("0x01"), new Address("0x02"))));
+
+        List<Type> decoded = FunctionCodec.of(function).decode(encoded);
+        assertEquals(
+                decoded, (FunctionReturnDecoder.decode(encoded, function.getOutputParameters())));
+        assertEquals(decoded.get(0), (new Uint256(BigInteger.TEN)));
+        assertEquals(decoded.get(1), (new Utf8String("web3j")));
+        assertEquals(FunctionCodec.of(function).decode("0x"), (Collections.emptyList()));
+    }
+
+    @Test
+    public void testCachedForParsedTypeReferences() throws ClassNotFoundException {
+        ReturnValuesDecoder decoder = ReturnValuesDecoder.of(parsedOutputs("uint256[]"));
+
+        assertSame(decoder, ReturnValuesDecoder.of(parsedOutputs("uint256[]")));
+        assertNotSame(
+                ReturnValuesDecoder.of(parsedOutputs("uint256[33][]")),
+                ReturnValuesDecoder.of(parsedOutputs("uint256[34][]")));
+
+        FunctionCodec codec =
+                FunctionCodec.of(
+                        new Function(
+                                "f", Collections.emptyList(), convert(parsedOutputs("uint256[]"))));
+        assertSame(
+                codec,
+                FunctionCodec.of(
+                        new Function(
+                                "f",
+                                Collections.emptyList(),
+                                convert(parsedOutputs("uint256[]")))));
+    }
+
+    @Test
+    public void testEncodeWithoutResolvingOutputs() {
+        Function function =
+                new Function(
+                        "balanceOf",
+                        Collections.singletonList(new Address("0x1234")),
+                        Collections.singletonList(new TypeReference<StaticArray>() {}));
+
+        assertEquals(
+                FunctionEncoder.encode(function),
+                ("0x70a08231"
+                        + "0000000000000000000000000000000000000000000000000000000000001234"));
+        assertEquals(FunctionCodec.of(function).getMethodId(), ("0x70a08231"));
+    }
+
+    @Test
+    public void testLruCacheEviction() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.computeIfAbsent("a", k -> 1);
+        cache.computeIfAbsent("b", k -> 2);
+        assertEquals(cache.get("a"), (1));
+        cache.computeIfAbsent("c", k -> 3);
+
+        assertEquals(cache.size(), (2));
+        assertNull(cache.get("b"));
+        assertEquals(cache.computeIfAbsent("a", k -> 4), (1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<TypeReference<Type>> parsedOutputs(String solidityType)
+            throws ClassNotFoundException {
+        return Collections.singletonList(TypeReference.makeTypeReference(solidityType));
+    }
+
+    private static List<TypeReference<?>> convert(List<TypeReference<Type>> typeReferences) {
+        return new ArrayList<>(typeReferences);
+    }
+
+    private static Function balanceOf(String owner) {
+        return new Function(
+                "balanceOf",
+                Collections.singletonList(new Address(owner)),
+                Collections.singletonList(new TypeReference<Uint256>() {}));
+    }
+}
@@ -20,10 +20,14 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
 import org.web3j.abi.datatypes.DynamicArray;
 import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
 import org.web3j.abi.datatypes.Function;
 import org.web3j.abi.datatypes.StaticArray;
+import org.web3j.abi.datatypes.StaticStruct;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.datatypes.Uint;
 import org.web3j.abi.datatypes.Utf8String;
@@ -35,6 +39,9 @@ import org.web3j.crypto.Hash;
 import org.web3j.utils.Numeric;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FunctionReturnDecoderTest {
 
@@ -104,6 +111,99 @@ public class FunctionReturnDecoderTest {
                 (Arrays.asList(new Uint(BigInteger.valueOf(55)), new Uint(BigInteger.valueOf(7)))));
     }
 
+    @Test
+    public void testDecodeStaticArrayOfDynamicStructs() {
+        List<Type> values =
+                Arrays.asList(
+                        new StaticArray2<>(
+                                Call.class,
+                                new Call(
+                                        new Address("0x1111111111111111111111111111111111111111"),
+                                        new DynamicBytes(new byte[] {1, 2, 3, 4})),
+                                new Call(
+                                        new Address("0x2222222222222222222222222222222222222222"),
+                                        new DynamicBytes(new byte[0]))),
+                        new Uint256(BigInteger.TEN));
+
+        List<TypeReference<?>> outputParameters =
+                Arrays.asList(
+                        new TypeReference<StaticArray2<Call>>() {},
+                        new TypeReference<Uint256>() {});
+
+        assertEquals(
+                values,
+                FunctionReturnDecoder.decode(
+                        FunctionEncoder.encodeConstructor(values),
+                        Utils.convert(outputParameters)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDecodeAll() {
+        List<String> rawInputs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rawInputs.add(
+                    FunctionEncoder.encodeConstructor(
+                            Arrays.asList(new Uint256(i), new Utf8String("value" + i))));
+        }
+        List<TypeReference<Type>> outputParameters =
+                Utils.convert(
+                        Arrays.asList(
+                                new TypeReference<Uint256>() {},
+                                new TypeReference<Utf8String>() {}));
+
+        List<List<Type>> results = FunctionReturnDecoder.decodeAll(rawInputs, outputParameters);
+
+        assertEquals(results.size(), (rawInputs.size()));
+        for (int i = 0; i < rawInputs.size(); i++) {
+            assertEquals(
+                    results.get(i), (Arrays.asList(new Uint256(i), new Utf8String("value" + i))));
+        }
+        assertEquals(
+                FunctionReturnDecoder.decodeAll(Arrays.asList("0x", ""), outputParameters),
+                (Arrays.asList(Collections.emptyList(), Collections.emptyList())));
+        assertEquals(
+                FunctionReturnDecoder.decoderFor(outputParameters).apply(rawInputs.get(1)),
+                (FunctionReturnDecoder.decode(rawInputs.get(1), outputParameters)));
+    }
+
+    @Test
+    public void testDecodeLazily() {
+        Function function =
+                new Function(
+                        "test",
+                        Collections.<Type>emptyList(),
+                        Arrays.asList(
+                                new TypeReference<Uint>() {},
+                                new TypeReference<Utf8String>() {},
+                                new TypeReference<Uint>() {}));
+        String rawInput =
+                "0x0000000000000000000000000000000000000000000000000000000000000037"
+                        + "0000000000000000000000000000000000000000000000000000000000000060"
+                        + "0000000000000000000000000000000000000000000000000000000000000007"
+                        + "000000000000000000000000000000000000000000000000000000000000000d"
+                        + "6f6e65206d6f72652074696d6500000000000000000000000000000000000000";
+
+        DecodedResult result =
+                (DecodedResult)
+                        FunctionReturnDecoder.decodeLazily(
+                                rawInput, function.getOutputParameters());
+
+        assertEquals(3, result.size());
+        assertFalse(result.isDecoded(1));
+        assertEquals(new Uint(BigInteger.valueOf(7)), result.get(2));
+        assertFalse(result.isDecoded(0));
+        assertFalse(result.isDecoded(1));
+        assertTrue(result.isDecoded(2));
+        assertSame(result.get(2), result.get(2));
+
+        assertEquals(
+                FunctionReturnDecoder.decode(rawInput, function.getOutputParameters()), result);
+        assertEquals(
+                Collections.emptyList(),
+                FunctionReturnDecoder.decodeLazily("0x", function.getOutputParameters()));
+    }
+
     @Test
     public void testDecodeMultipleStringValues() {
         Function function =
@@ -136,6 +236,48 @@ public class FunctionReturnDecoderTest {
                         new Utf8String("jkl1"), new Utf8String("mno2"))));
     }
 
+    @Test
+    public void testDecodeStructs() {
+        List<Type> values =
+                Arrays.asList(
+                        new Uint256(BigInteger.TEN),
+                        new Point(new Uint256(BigInteger.ONE), new Uint256(BigInteger.valueOf(2))),
+                        new DynamicArray<>(
+                                Call.class,
+                                new Call(
+                                        new Address("0x1111111111111111111111111111111111111111"),
+                                        new DynamicBytes(new byte[] {1, 2, 3, 4})),
+                                new Call(
+                                        new Address("0x2222222222222222222222222222222222222222"),
+                                        new DynamicBytes(new byte[0]))),
+                        new Named(
+                                new Utf8String("origin"),
+                                new Point(Uint256.DEFAULT, Uint256.DEFAULT),
+                                new DynamicArray<>(
+                                        Uint256.class, new Uint256(BigInteger.valueOf(3)))),
+                        new Bool(true));
+
+        List<TypeReference<?>> outputParameters =
+                Arrays.asList(
+                        new TypeReference<Uint256>() {},
+                        new TypeReference<Point>() {},
+                        new TypeReference<DynamicArray<Call>>() {},
+                        new TypeReference<Named>() {},
+                        new TypeReference<Bool>() {});
+
+        assertEquals(
+                values,
+                FunctionReturnDecoder.decode(
+                        FunctionEncoder.encodeConstructor(values),
+                        Utils.convert(outputParameters)));
+        assertEquals(
+                "(string,(uint256,uint256),uint256[])",
+                Utils.getTypeName(new TypeReference<Named>() {}));
+        assertEquals(
+                "(address,bytes)[]",
+                new DynamicArray<>(Call.class, Collections.emptyList()).getTypeAsString());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testDecodeStaticArrayValue() {
@@ -167,6 +309,9 @@ public class FunctionReturnDecoderTest {
         assertEquals(
                 FunctionReturnDecoder.decode("0x", function.getOutputParameters()),
                 (Collections.emptyList()));
+        assertEquals(
+                FunctionReturnDecoder.decode(null, function.getOutputParameters()),
+                (Collections.emptyList()));
     }
 
     @Test
@@ -248,4 +393,22 @@ public class FunctionReturnDecoderTest {
                         hash, new TypeReference<DynamicArray>() {}),
                 (new Bytes32(Numeric.hexStringToByteArray(hash))));
     }
+
+    public static class Point extends StaticStruct {
+        public Point(Uint256 x, Uint256 y) {
+            super(x, y);
+        }
+    }
+
+    public static class Call extends DynamicStruct {
+        public Call(Address target, DynamicBytes callData) {
+            super(target, callData);
+        }
+    }
+
+    public static class Named extends DynamicStruct {
+        public Named(Utf8String name, Point point, DynamicArray<Uint256> values) {
+            super(name, point, values);
+        }
+    }
 }
@@ -13,6 +13,7 @@
 package org.web3j.abi;
 
 import java.math.BigInteger;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -95,8 +96,10 @@ import org.web3j.abi.datatypes.generated.Uint8;
 import org.web3j.abi.datatypes.generated.Uint80;
 import org.web3j.abi.datatypes.generated.Uint88;
 import org.web3j.abi.datatypes.generated.Uint96;
+import org.web3j.utils.Numeric;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -145,6 +148,24 @@ public class TypeDecoderTest {
                 (new Bool(true)));
     }
 
+    @Test
+    public void testDecodeBytesGivenOffset() {
+        byte[] input =
+                Numeric.hexStringToByteArray(
+                        "ffff"
+                                + "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff85"
+                                + "0000000000000000000000000000000000000000000000000000000000000001"
+                                + "0000000000000000000000000000000000000000000000000000000000000003"
+                                + "6461760000000000000000000000000000000000000000000000000000000000");
+
+        assertEquals(TypeDecoder.decode(input, 2, Int256.class), (new Int256(-123)));
+        assertEquals(TypeDecoder.decode(input, 34, Bool.class), (new Bool(true)));
+        assertEquals(TypeDecoder.decode(input, 66, Utf8String.class), (new Utf8String("dav")));
+        assertEquals(TypeDecoder.decodeUintAsInt(input, 66), (3));
+        assertThrows(
+                IndexOutOfBoundsException.class, () -> TypeDecoder.decode(input, 99, Bool.class));
+    }
+
     @Test
     public void testUintDecode() throws Exception {
         assertEquals(TypeDecoder.instantiateType("uint", 123), (new Uint(BigInteger.valueOf(123))));
@@ -504,6 +525,44 @@ public class TypeDecoderTest {
                 TypeDecoder.instantiateType("uint", 1.0e20), (new Uint(BigInteger.TEN.pow(20))));
     }
 
+    @Test
+    public void testNumericDecodeToLong() {
+        Uint64 maxLong =
+                TypeDecoder.decodeNumeric(
+                        "0000000000000000000000000000000000000000000000007fffffffffffffff",
+                        Uint64.class);
+        assertTrue(maxLong.hasLongValue());
+        assertEquals(maxLong.longValue(), (Long.MAX_VALUE));
+
+        // above Long.MAX_VALUE, so held as a BigInteger
+        Uint64 maxUint64 =
+                TypeDecoder.decodeNumeric(
+                        "000000000000000000000000000000000000000000000000ffffffffffffffff",
+                        Uint64.class);
+        assertFalse(maxUint64.hasLongValue());
+        assertEquals(maxUint64.getValue(), (new BigInteger("ffffffffffffffff", 16)));
+
+        Int8 minusOne =
+                TypeDecoder.decodeNumeric(
+                        "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff",
+                        Int8.class);
+        assertTrue(minusOne.hasLongValue());
+        assertEquals(minusOne.longValue(), (-1L));
+
+        Int64 minLong =
+                TypeDecoder.decodeNumeric(
+                        "ffffffffffffffffffffffffffffffffffffffffffffffff8000000000000000",
+                        Int64.class);
+        assertTrue(minLong.hasLongValue());
+        assertEquals(minLong.longValue(), (Long.MIN_VALUE));
+
+        assertFalse(
+                TypeDecoder.decodeNumeric(
+                                "0000000000000000000000000000000000000000000000000000000000000001",
+                                Uint256.class)
+                        .hasLongValue());
+    }
+
     @Test
     public void testIntDecode() throws Exception {
         assertEquals(
@@ -1000,6 +1059,36 @@ public class TypeDecoderTest {
                 TypeDecoder.instantiateType("bytes", testbytes), (new DynamicBytes(testbytes)));
     }
 
+    @Test
+    public void testOversizedLengths() {
+        String offset = "0000000000000000000000000000000000000000000000000000000000000020";
+        String word = "0000000000000000000000000000000000000000000000000000000000000020";
+        String hugeLength = "000000000000000000000000000000000000000000000000000000007fffff00";
+        String negativeLength = "00000000000000000000000000000000000000000000000000000000ffffff00";
+
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> TypeDecoder.decodeDynamicBytes(hugeLength + word, 0));
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> TypeDecoder.decodeDynamicBytes(negativeLength + word, 0));
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () ->
+                        FunctionReturnDecoder.decode(
+                                "0x" + offset + hugeLength + word,
+                                Utils.convert(
+                                        Collections.singletonList(
+                                                new TypeReference<DynamicBytes>() {}))));
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () ->
+                        TypeDecoder.decodeDynamicArray(
+                                hugeLength + word,
+                                0,
+                                new TypeReference<DynamicArray<Uint256>>() {}));
+    }
+
     @Test
     public void testAddress() throws Exception {
         assertEquals(
@@ -1036,6 +1125,21 @@ public class TypeDecoderTest {
                 (new Utf8String("Hello, world!")));
     }
 
+    @Test
+    public void testDecodeValuesWithinLongerInput() {
+        String input =
+                "0x000000000000000000000000000000000000000000000000000000000000000d" // length
+                        + "48656c6c6f2c20776f726c642100000000000000000000000000000000000000"
+                        + "0000000000000000000000000000000000000000000000000000000000000001";
+
+        assertEquals(
+                TypeDecoder.decodeNumeric(input, Uint256.class),
+                (new Uint256(BigInteger.valueOf(13))));
+        assertEquals(TypeDecoder.decodeUtf8String(input, 0), (new Utf8String("Hello, world!")));
+        assertEquals(TypeDecoder.decodeBool(input, 130), (new Bool(true)));
+        assertEquals(TypeDecoder.decode(input, 130, Uint8.class), (new Uint8(1)));
+    }
+
     @Test
     public void testStaticArray() throws Exception {
         assertEquals(
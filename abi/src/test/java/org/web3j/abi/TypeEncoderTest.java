@@ -61,6 +61,7 @@ import org.web3j.abi.datatypes.generated.Int80;
 import org.web3j.abi.datatypes.generated.Int88;
 import org.web3j.abi.datatypes.generated.Int96;
 import org.web3j.abi.datatypes.generated.StaticArray2;
+import org.web3j.abi.datatypes.generated.Uint256;
 import org.web3j.abi.datatypes.generated.Uint104;
 import org.web3j.abi.datatypes.generated.Uint112;
 import org.web3j.abi.datatypes.generated.Uint120;
@@ -462,6 +463,23 @@ public class TypeEncoderTest {
                                         16)));
     }
 
+    @Test
+    public void testLongValueEncode() {
+        assertEquals(
+                TypeEncoder.encodeNumeric(new Int64(0x8000000000000000L)),
+                ("ffffffffffffffffffffffffffffffffffffffffffffffff8000000000000000"));
+        assertEquals(
+                TypeEncoder.encodeNumeric(new Int8(-1L)),
+                ("ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff"));
+        assertEquals(
+                TypeEncoder.encodeNumeric(new Uint64(0x7fffffffffffffffL)),
+                ("0000000000000000000000000000000000000000000000007fffffffffffffff"));
+
+        assertThrows(UnsupportedOperationException.class, () -> new Uint64(-1L));
+        assertThrows(UnsupportedOperationException.class, () -> new Int8(256L));
+        assertThrows(UnsupportedOperationException.class, () -> new Uint8(256L));
+    }
+
     @Test
     public void testIntEncode() {
         Int zero8 = new Int8(BigInteger.ZERO);
@@ -1160,6 +1178,16 @@ public class TypeEncoderTest {
                         + "48656c6c6f2c20776f726c642100000000000000000000000000000000000000"));
     }
 
+    @Test
+    public void testUtf8StringMultiByte() {
+        // a 2, 3 and 4 byte character, then an unpaired surrogate which is encoded as '?'
+        Utf8String string = new Utf8String("\u00e9\u20ac\ud83d\ude00\ud83d");
+        assertEquals(
+                TypeEncoder.encodeString(string),
+                ("000000000000000000000000000000000000000000000000000000000000000a"
+                        + "c3a9e282acf09f98803f00000000000000000000000000000000000000000000"));
+    }
+
     @Test
     public void testFixedArray() {
         StaticArray<Ufixed> array =
@@ -1327,6 +1355,65 @@ public class TypeEncoderTest {
                         + "0000000000000000000000000000000000000000000000000000000000000000"));
     }
 
+    @Test
+    public void testArrayOfMultiByteStrings() {
+        // 20 characters, but 40 bytes which take two words
+        String accents = new String(new char[20]).replace('\0', '\u00e9');
+        DynamicArray<Utf8String> array =
+                new DynamicArray<>(Utf8String.class, new Utf8String(accents), new Utf8String("a"));
+
+        assertEquals(
+                TypeEncoder.encodeDynamicArray(array),
+                //  array length
+                ("0000000000000000000000000000000000000000000000000000000000000002"
+                        // offset first string
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        // offset second string
+                        + "00000000000000000000000000000000000000000000000000000000000000a0"
+                        // length first string
+                        + "0000000000000000000000000000000000000000000000000000000000000028"
+                        // first string
+                        + "c3a9c3a9c3a9c3a9c3a9c3a9c3a9c3a9c3a9c3a9c3a9c3a9c3a9c3a9c3a9c3a9"
+                        // first string continued
+                        + "c3a9c3a9c3a9c3a9000000000000000000000000000000000000000000000000"
+                        // length second string
+                        + "0000000000000000000000000000000000000000000000000000000000000001"
+                        // second string
+                        + "6100000000000000000000000000000000000000000000000000000000000000"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testArrayOfArrays() {
+        DynamicArray<DynamicArray> array =
+                new DynamicArray<>(
+                        DynamicArray.class,
+                        new DynamicArray<>(
+                                Uint256.class,
+                                new Uint256(BigInteger.ONE),
+                                new Uint256(BigInteger.valueOf(2))),
+                        new DynamicArray<>(Uint256.class, new Uint256(BigInteger.valueOf(3))));
+
+        assertEquals("uint256[][]", array.getTypeAsString());
+        assertEquals(
+                TypeEncoder.encodeDynamicArray(array),
+                //  array length
+                ("0000000000000000000000000000000000000000000000000000000000000002"
+                        // offset first array
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        // offset second array
+                        + "00000000000000000000000000000000000000000000000000000000000000a0"
+                        // length first array
+                        + "0000000000000000000000000000000000000000000000000000000000000002"
+                        // first array
+                        + "0000000000000000000000000000000000000000000000000000000000000001"
+                        + "0000000000000000000000000000000000000000000000000000000000000002"
+                        // length second array
+                        + "0000000000000000000000000000000000000000000000000000000000000001"
+                        // second array
+                        + "0000000000000000000000000000000000000000000000000000000000000003"));
+    }
+
     @Test
     public void testPrimitiveByte() {
         assertEquals(
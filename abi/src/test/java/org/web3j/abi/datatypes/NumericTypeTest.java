@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi.datatypes;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.datatypes.generated.Int64;
+import org.web3j.abi.datatypes.generated.Uint32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NumericTypeTest {
+
+    private static final long[] VALUES = {
+        0,
+        1,
+        -1,
+        255,
+        -256,
+        Integer.MAX_VALUE,
+        1L << 32,
+        -(1L << 32) - 1,
+        Long.MAX_VALUE,
+        Long.MIN_VALUE
+    };
+
+    @Test
+    public void testLongValueEqualsBigIntegerValue() {
+        for (long value : VALUES) {
+            Int64 longValued = new Int64(value);
+            Int64 bigIntegerValued = new Int64(BigInteger.valueOf(value));
+
+            assertTrue(longValued.hasLongValue());
+            assertFalse(bigIntegerValued.hasLongValue());
+            assertEquals(longValued, (bigIntegerValued));
+            assertEquals(bigIntegerValued, (longValued));
+            assertEquals(longValued.hashCode(), (bigIntegerValued.hashCode()));
+            assertEquals(longValued.getValue(), (BigInteger.valueOf(value)));
+            assertEquals(bigIntegerValued.longValue(), (value));
+        }
+
+        assertNotEquals(new Int64(1), (new Int64(2)));
+        assertNotEquals(new Int64(1), (new Int64(BigInteger.valueOf(2))));
+    }
+
+    @Test
+    public void testBitLength() {
+        for (long value : VALUES) {
+            assertEquals(
+                    ((NumericType) new Int64(value)).bitLength(),
+                    (BigInteger.valueOf(value).bitLength()));
+        }
+    }
+
+    @Test
+    public void testValueCreatedOnce() {
+        Uint32 value = new Uint32(42);
+        assertTrue(value.getValue() == value.getValue());
+    }
+}
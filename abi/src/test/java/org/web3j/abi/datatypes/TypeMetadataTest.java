@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi.datatypes;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Int64;
+import org.web3j.abi.datatypes.generated.StaticArray2;
+import org.web3j.abi.datatypes.generated.Uint256;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeMetadataTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGeneratedTypes() throws ClassNotFoundException {
+        for (int bitSize = 8; bitSize <= Type.MAX_BIT_LENGTH; bitSize += 8) {
+            for (String prefix : new String[] {"uint", "int"}) {
+                Class<Type> type = (Class<Type>) AbiTypes.getType(prefix + bitSize);
+                TypeMetadata<Type> metadata = TypeMetadata.get(type);
+
+                assertEquals(metadata.getType(), (type));
+                assertEquals(metadata.getTypeName(), (prefix + bitSize));
+                assertEquals(metadata.getBitSize(), (bitSize));
+                assertEquals(metadata.isSigned(), (prefix.equals("int")));
+                assertFalse(metadata.isDynamic());
+                assertEquals(metadata.newInstance(BigInteger.TEN).getClass(), (type));
+            }
+        }
+
+        for (int length = 1; length <= Type.MAX_BYTE_LENGTH; length++) {
+            Class<Type> type = (Class<Type>) AbiTypes.getType("bytes" + length);
+            TypeMetadata<Type> metadata = TypeMetadata.get(type);
+
+            assertEquals(metadata.getTypeName(), ("bytes" + length));
+            assertEquals(metadata.getBitSize(), (length * 8));
+            assertEquals(metadata.newInstance(new byte[length]).getClass(), (type));
+        }
+    }
+
+    @Test
+    public void testNewInstance() {
+        assertEquals(
+                TypeMetadata.get(Uint256.class).newInstance(BigInteger.ONE),
+                (new Uint256(BigInteger.ONE)));
+        assertEquals(
+                TypeMetadata.get(Int64.class).newInstance(BigInteger.ONE.negate()),
+                (new Int64(-1)));
+        assertArrayEquals(
+                TypeMetadata.get(Bytes32.class).newInstance(new byte[32]).getValue(),
+                (new byte[32]));
+        assertEquals(
+                TypeMetadata.get(Address.class).newInstance(BigInteger.TEN),
+                (new Address(BigInteger.TEN)));
+        assertEquals(TypeMetadata.get(Bool.class).newInstance(true), (new Bool(true)));
+        assertEquals(
+                TypeMetadata.get(Utf8String.class).newInstance("web3j"), (new Utf8String("web3j")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLongValues() throws ClassNotFoundException {
+        for (int bitSize = 8; bitSize <= Type.MAX_BIT_LENGTH; bitSize += 8) {
+            for (String prefix : new String[] {"uint", "int"}) {
+                Class<NumericType> type = (Class<NumericType>) AbiTypes.getType(prefix + bitSize);
+                TypeMetadata<NumericType> metadata = TypeMetadata.get(type);
+
+                assertEquals(metadata.hasLongValues(), (bitSize <= Long.SIZE));
+                if (metadata.hasLongValues()) {
+                    NumericType value = metadata.newInstance(10L);
+                    assertEquals(value.getClass(), (type));
+                    assertTrue(value.hasLongValue());
+                    assertEquals(value, (metadata.newInstance(BigInteger.TEN)));
+                } else {
+                    assertThrows(
+                            UnsupportedOperationException.class, () -> metadata.newInstance(1L));
+                }
+            }
+        }
+
+        assertFalse(TypeMetadata.get(Uint.class).hasLongValues());
+        assertFalse(TypeMetadata.get(Address.class).hasLongValues());
+    }
+
+    @Test
+    public void testDynamicTypes() {
+        assertTrue(TypeMetadata.get(Utf8String.class).isDynamic());
+        assertTrue(TypeMetadata.get(DynamicBytes.class).isDynamic());
+        assertEquals(TypeMetadata.get(Uint.class).getTypeName(), ("uint256"));
+        assertEquals(TypeMetadata.get(Address.class).getBitSize(), (160));
+    }
+
+    @Test
+    public void testUnregisteredTypes() {
+        assertNull(TypeMetadata.get(StaticArray2.class));
+        assertNull(TypeMetadata.get(Fixed.class));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint64;
+
+/** ABI encoding and decoding of values, function calls and function results. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AbiBenchmark {
+
+    private static final String ADDRESS = "0xbe5422d15f39373eb0a97ff8c10fbd0e40e29338";
+
+    private Uint256 uint256;
+    private Uint64 uint64;
+    private DynamicArray<Address> addresses;
+    private Function transfer;
+    private Function multiReturn;
+
+    private String encodedUint256;
+    private String encodedUint64;
+    private String encodedAddresses;
+    private String encodedResult;
+    private List<String> encodedResults;
+    private List<TypeReference<Type>> resultTypes;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        uint256 = new Uint256(new BigInteger("1000000000000000000"));
+        uint64 = new Uint64(1000000000000000000L);
+
+        List<Address> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            values.add(new Address(BigInteger.valueOf(i)));
+        }
+        addresses = new DynamicArray<>(Address.class, values);
+
+        transfer =
+                new Function(
+                        "transfer",
+                        Arrays.asList(new Address(ADDRESS), uint256),
+                        Collections.emptyList());
+        multiReturn =
+                new Function(
+                        "multiReturn",
+                        Arrays.asList(
+                                uint256, new Utf8String("web3j"), addresses, new Address(ADDRESS)),
+                        Collections.emptyList());
+
+        encodedUint256 = TypeEncoder.encode(uint256);
+        encodedUint64 = TypeEncoder.encode(uint64);
+        encodedAddresses = TypeEncoder.encode(addresses);
+        encodedResult = FunctionEncoder.encodeConstructor(multiReturn.getInputParameters());
+        encodedResults = Collections.nCopies(1000, encodedResult);
+        resultTypes =
+                Utils.convert(
+                        Arrays.asList(
+                                new TypeReference<Uint256>() {},
+                                new TypeReference<Utf8String>() {},
+                                new TypeReference<DynamicArray<Address>>() {},
+                                new TypeReference<Address>() {}));
+    }
+
+    @Benchmark
+    public String encodeUint256() {
+        return TypeEncoder.encode(uint256);
+    }
+
+    @Benchmark
+    public String encodeUint64() {
+        return TypeEncoder.encode(uint64);
+    }
+
+    @Benchmark
+    public String encodeDynamicArray() {
+        return TypeEncoder.encode(addresses);
+    }
+
+    @Benchmark
+    public Uint256 decodeUint256() {
+        return TypeDecoder.decodeNumeric(encodedUint256, Uint256.class);
+    }
+
+    @Benchmark
+    public Uint64 decodeUint64() {
+        return TypeDecoder.decodeNumeric(encodedUint64, Uint64.class);
+    }
+
+    @Benchmark
+    public DynamicArray<Address> decodeDynamicArray() {
+        return TypeDecoder.decodeDynamicArray(
+                encodedAddresses, 0, new TypeReference<DynamicArray<Address>>() {});
+    }
+
+    @Benchmark
+    public String encodeFunction() {
+        return FunctionEncoder.encode(transfer);
+    }
+
+    @Benchmark
+    public String encodeFunctionWithDynamicParameters() {
+        return FunctionEncoder.encode(multiReturn);
+    }
+
+    @Benchmark
+    public byte[] encodeFunctionToBytes() {
+        return FunctionEncoder.encodeToBytes(multiReturn);
+    }
+
+    @Benchmark
+    public List<Type> decodeFunctionResult() {
+        return FunctionReturnDecoder.decode(encodedResult, resultTypes);
+    }
+
+    @Benchmark
+    public List<List<Type>> decodeAllFunctionResults() {
+        return FunctionReturnDecoder.decodeAll(encodedResults, resultTypes);
+    }
+
+    @Benchmark
+    public Type decodeOneFunctionResultLazily() {
+        return FunctionReturnDecoder.decodeLazily(encodedResult, resultTypes).get(3);
+    }
+}
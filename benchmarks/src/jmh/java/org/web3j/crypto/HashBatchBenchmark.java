@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Keccak-256 hashing of a batch of 32 byte inputs, run in fork-join pools of increasing parallelism
+ * to show how {@link Hash#sha3Batch(byte[][], byte[][])} scales across cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HashBatchBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"100000"})
+    public int batchSize;
+
+    private ForkJoinPool pool;
+    private byte[][] inputs;
+    private byte[][] outputs;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        Random random = new Random(batchSize);
+        inputs = new byte[batchSize][32];
+        for (byte[] input : inputs) {
+            random.nextBytes(input);
+        }
+        outputs = new byte[batchSize][Hash.SHA3_LENGTH];
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public byte[][] sha3Batch() {
+        pool.invoke(ForkJoinTask.adapt(() -> Hash.sha3Batch(inputs, outputs)));
+        return outputs;
+    }
+
+    @Benchmark
+    public byte[][] sha3Sequential() {
+        for (int i = 0; i < inputs.length; i++) {
+            Hash.sha3(inputs[i], 0, inputs[i].length, outputs[i], 0);
+        }
+        return outputs;
+    }
+}
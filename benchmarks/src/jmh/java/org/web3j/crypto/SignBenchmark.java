@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+import java.security.SignatureException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.utils.Numeric;
+
+/** Message signing, public key recovery and transaction signing. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SignBenchmark {
+
+    private static final String PRIVATE_KEY =
+            "0xa392604efc2fad9c0b3da43b5f698a2e3f270f170d859912be0d54742275c5f6";
+
+    private Credentials credentials;
+    private Signer signer;
+    private byte[] messageHash;
+    private Sign.SignatureData signatureData;
+    private List<byte[]> messageHashes;
+    private List<Sign.SignatureData> signatures;
+    private RawTransaction rawTransaction;
+    private List<RawTransaction> rawTransactions;
+    private SignedRawTransaction signedTransaction;
+    private SenderRecovery senderRecovery;
+
+    @Setup
+    public void setUp() {
+        credentials = Credentials.create(PRIVATE_KEY);
+        signer = Signer.create(credentials);
+        messageHash = Hash.sha3(Numeric.hexStringToByteArray("0x68656c6c6f20776f726c64"));
+        signatureData = Sign.signMessage(messageHash, credentials.getEcKeyPair(), false);
+        messageHashes = Collections.nCopies(256, messageHash);
+        signatures = Collections.nCopies(256, signatureData);
+        rawTransaction =
+                RawTransaction.createEtherTransaction(
+                        BigInteger.valueOf(9),
+                        BigInteger.valueOf(20000000000L),
+                        BigInteger.valueOf(21000),
+                        "0x3535353535353535353535353535353535353535",
+                        BigInteger.valueOf(1000000000000000000L));
+        rawTransactions = Collections.nCopies(256, rawTransaction);
+        signedTransaction =
+                (SignedRawTransaction)
+                        TransactionDecoder.decode(
+                                Numeric.toHexString(
+                                        TransactionEncoder.signMessage(
+                                                rawTransaction, 1L, credentials)));
+        senderRecovery = new SenderRecovery();
+    }
+
+    @Benchmark
+    public Sign.SignatureData signMessage() {
+        return Sign.signMessage(messageHash, credentials.getEcKeyPair(), false);
+    }
+
+    @Benchmark
+    public Sign.SignatureData signHashWithSigner() {
+        return signer.signHash(messageHash);
+    }
+
+    @Benchmark
+    public BigInteger signedMessageHashToKey() throws SignatureException {
+        return Sign.signedMessageHashToKey(messageHash, signatureData);
+    }
+
+    @Benchmark
+    public List<BigInteger> recoverAll() {
+        return Sign.recoverAll(messageHashes, signatures);
+    }
+
+    @Benchmark
+    public String getFrom() throws SignatureException {
+        return signedTransaction.getFrom();
+    }
+
+    @Benchmark
+    public byte[] recoverSender() throws SignatureException {
+        return senderRecovery.recoverSender(signedTransaction);
+    }
+
+    @Benchmark
+    public byte[] signTransaction() {
+        return TransactionEncoder.signMessage(rawTransaction, 1L, credentials);
+    }
+
+    @Benchmark
+    public List<byte[]> signAllTransactions() {
+        return TransactionEncoder.signAll(rawTransactions, 1L, credentials);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.utils.Numeric;
+
+/** Encoding and decoding of transaction shaped RLP lists. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RlpBenchmark {
+
+    @Param({"1", "100"})
+    public int transactions;
+
+    private RlpList rlpList;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        List<RlpType> values = new ArrayList<>();
+        for (int i = 0; i < transactions; i++) {
+            values.add(
+                    new RlpList(
+                            RlpString.create(BigInteger.valueOf(i)),
+                            RlpString.create(BigInteger.valueOf(20000000000L)),
+                            RlpString.create(BigInteger.valueOf(21000)),
+                            RlpString.create(
+                                    Numeric.hexStringToByteArray(
+                                            "0x3535353535353535353535353535353535353535")),
+                            RlpString.create(new BigInteger("1000000000000000000")),
+                            RlpString.create(new byte[68]),
+                            RlpString.create(BigInteger.valueOf(37)),
+                            RlpString.create(new byte[32]),
+                            RlpString.create(new byte[32])));
+        }
+        rlpList = new RlpList(values);
+        encoded = RlpEncoder.encode(rlpList);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return RlpEncoder.encode(rlpList);
+    }
+
+    @Benchmark
+    public RlpList decode() {
+        return RlpDecoder.decode(encoded);
+    }
+}
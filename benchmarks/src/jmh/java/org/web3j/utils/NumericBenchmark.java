@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Hex encoding and decoding of byte arrays. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NumericBenchmark {
+
+    @Param({"20", "32", "1024"})
+    public int size;
+
+    private byte[] bytes;
+    private String hex;
+
+    @Setup
+    public void setUp() {
+        bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        hex = Numeric.toHexString(bytes);
+    }
+
+    @Benchmark
+    public String toHexString() {
+        return Numeric.toHexString(bytes);
+    }
+
+    @Benchmark
+    public byte[] hexStringToByteArray() {
+        return Numeric.hexStringToByteArray(hex);
+    }
+}
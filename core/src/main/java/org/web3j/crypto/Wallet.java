@@ -181,12 +181,7 @@ public class Wallet {
     }
 
     private static byte[] generateMac(byte[] derivedKey, byte[] cipherText) {
-        byte[] result = new byte[16 + cipherText.length];
-
-        System.arraycopy(derivedKey, 16, result, 0, 16);
-        System.arraycopy(cipherText, 0, result, 16, cipherText.length);
-
-        return Hash.sha3(result);
+        return Hash.sha3(Arrays.copyOfRange(derivedKey, 16, 32), cipherText);
     }
 
     public static ECKeyPair decrypt(String password, WalletFile walletFile) throws CipherException {
@@ -45,12 +45,9 @@ public class NameHash {
             }
 
             byte[] remainderHash = nameHash(tail);
-            byte[] result = Arrays.copyOf(remainderHash, 64);
-
             byte[] labelHash = Hash.sha3(labels[0].getBytes(StandardCharsets.UTF_8));
-            System.arraycopy(labelHash, 0, result, 32, labelHash.length);
 
-            return Hash.sha3(result);
+            return Hash.sha3(remainderHash, labelHash);
         }
     }
 
@@ -28,10 +28,44 @@ import org.web3j.abi.datatypes.Type;
 public class RemoteFunctionCall<T> extends RemoteCall<T> {
 
     private final Function function;
+    private final String contractAddress;
+    private final ResultConverter<T> resultConverter;
 
     public RemoteFunctionCall(Function function, Callable<T> callable) {
+        this(function, null, null, callable);
+    }
+
+    /**
+     * Create a read-only call of a contract function, which can also be executed as part of an
+     * aggregate call.
+     *
+     * @param function the function to call
+     * @param contractAddress address of the contract
+     * @param resultConverter converts the decoded return values into the result of the call
+     * @param callable executes the call on its own
+     */
+    public RemoteFunctionCall(
+            Function function,
+            String contractAddress,
+            ResultConverter<T> resultConverter,
+            Callable<T> callable) {
         super(callable);
         this.function = function;
+        this.contractAddress = contractAddress;
+        this.resultConverter = resultConverter;
+    }
+
+    public Function getFunction() {
+        return function;
+    }
+
+    /**
+     * Returns the address of the contract called.
+     *
+     * @return the contract address, or null if this is not a read-only call of a known contract
+     */
+    public String getContractAddress() {
+        return contractAddress;
     }
 
     /**
@@ -52,4 +86,29 @@ public class RemoteFunctionCall<T> extends RemoteCall<T> {
     public List<Type> decodeFunctionResponse(String response) {
         return FunctionReturnDecoder.decode(response, function.getOutputParameters());
     }
+
+    /**
+     * convert decoded return values into the result of this call, as returned by {@link #send()}
+     *
+     * @param values the decoded return values of the function
+     * @return result of the call
+     * @throws UnsupportedOperationException if this is not a read-only call of a known contract
+     */
+    public T convertFunctionResponse(List<Type> values) {
+        if (resultConverter == null) {
+            throw new UnsupportedOperationException(
+                    "Function " + function.getName() + " is not a read-only contract call");
+        }
+        return resultConverter.convert(values);
+    }
+
+    /**
+     * Converts the decoded return values of a function into the result of a call.
+     *
+     * @param <T> Our return type.
+     */
+    @FunctionalInterface
+    public interface ResultConverter<T> {
+        T convert(List<Type> values);
+    }
 }
@@ -21,8 +21,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
+import org.web3j.abi.BulkDecoder;
 import org.web3j.abi.EventEncoder;
 import org.web3j.abi.EventValues;
 import org.web3j.abi.FunctionEncoder;
@@ -294,10 +297,23 @@ public abstract class Contract extends ManagedTransaction {
         return FunctionReturnDecoder.decode(value, function.getOutputParameters());
     }
 
-    @SuppressWarnings("unchecked")
     protected <T extends Type> T executeCallSingleValueReturn(Function function)
             throws IOException {
-        List<Type> values = executeCall(function);
+        return singleValue(executeCall(function));
+    }
+
+    protected <T extends Type, R> R executeCallSingleValueReturn(
+            Function function, Class<R> returnType) throws IOException {
+        T result = executeCallSingleValueReturn(function);
+        return convertSingleValue(result, returnType);
+    }
+
+    protected List<Type> executeCallMultipleValueReturn(Function function) throws IOException {
+        return executeCall(function);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Type> T singleValue(List<Type> values) {
         if (!values.isEmpty()) {
             return (T) values.get(0);
         } else {
@@ -306,9 +322,7 @@ public abstract class Contract extends ManagedTransaction {
     }
 
     @SuppressWarnings("unchecked")
-    protected <T extends Type, R> R executeCallSingleValueReturn(
-            Function function, Class<R> returnType) throws IOException {
-        T result = executeCallSingleValueReturn(function);
+    private static <T extends Type, R> R convertSingleValue(T result, Class<R> returnType) {
         if (result == null) {
             throw new ContractCallException("Empty value (0x) returned from contract");
         }
@@ -327,10 +341,6 @@ public abstract class Contract extends ManagedTransaction {
         }
     }
 
-    protected List<Type> executeCallMultipleValueReturn(Function function) throws IOException {
-        return executeCall(function);
-    }
-
     protected TransactionReceipt executeTransaction(Function function)
             throws IOException, TransactionException {
         return executeTransaction(function, BigInteger.ZERO);
@@ -388,18 +398,29 @@ public abstract class Contract extends ManagedTransaction {
 
     protected <T extends Type> RemoteFunctionCall<T> executeRemoteCallSingleValueReturn(
             Function function) {
-        return new RemoteFunctionCall<>(function, () -> executeCallSingleValueReturn(function));
+        return new RemoteFunctionCall<>(
+                function,
+                contractAddress,
+                Contract::singleValue,
+                () -> executeCallSingleValueReturn(function));
     }
 
     protected <T> RemoteFunctionCall<T> executeRemoteCallSingleValueReturn(
             Function function, Class<T> returnType) {
         return new RemoteFunctionCall<>(
-                function, () -> executeCallSingleValueReturn(function, returnType));
+                function,
+                contractAddress,
+                values -> convertSingleValue(singleValue(values), returnType),
+                () -> executeCallSingleValueReturn(function, returnType));
     }
 
     protected RemoteFunctionCall<List<Type>> executeRemoteCallMultipleValueReturn(
             Function function) {
-        return new RemoteFunctionCall<>(function, () -> executeCallMultipleValueReturn(function));
+        return new RemoteFunctionCall<>(
+                function,
+                contractAddress,
+                values -> values,
+                () -> executeCallMultipleValueReturn(function));
     }
 
     protected RemoteFunctionCall<TransactionReceipt> executeRemoteCallTransaction(
@@ -693,15 +714,61 @@ public abstract class Contract extends ManagedTransaction {
     }
 
     public static EventValues staticExtractEventParameters(Event event, Log log) {
-        final List<String> topics = log.getTopics();
+        return staticExtractEventParameters(
+                event,
+                EventEncoder.encode(event),
+                data -> FunctionReturnDecoder.decode(data, event.getNonIndexedParameters()),
+                log);
+    }
+
+    /**
+     * Decode the parameters of an event from many logs, such as a page of <code>eth_getLogs
+     * </code> results, in parallel on the common {@link ForkJoinPool}.
+     *
+     * @param event event definition
+     * @param logs logs to decode
+     * @return the event values of each log in order, or null for logs of other events
+     * @see BulkDecoder
+     */
+    public static List<EventValues> staticExtractEventParameters(Event event, List<Log> logs) {
+        return staticExtractEventParameters(event, logs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decode the parameters of an event from many logs, such as a page of <code>eth_getLogs
+     * </code> results, in parallel on the given executor.
+     *
+     * @param event event definition
+     * @param logs logs to decode
+     * @param executor runs decoding tasks
+     * @return the event values of each log in order, or null for logs of other events
+     * @see BulkDecoder
+     */
+    public static List<EventValues> staticExtractEventParameters(
+            Event event, List<Log> logs, Executor executor) {
         String encodedEventSignature = EventEncoder.encode(event);
+        java.util.function.Function<String, List<Type>> nonIndexedDecoder =
+                FunctionReturnDecoder.decoderFor(event.getNonIndexedParameters());
+        return BulkDecoder.decodeAll(
+                logs,
+                log ->
+                        staticExtractEventParameters(
+                                event, encodedEventSignature, nonIndexedDecoder, log),
+                executor);
+    }
+
+    private static EventValues staticExtractEventParameters(
+            Event event,
+            String encodedEventSignature,
+            java.util.function.Function<String, List<Type>> nonIndexedDecoder,
+            Log log) {
+        final List<String> topics = log.getTopics();
         if (topics == null || topics.size() == 0 || !topics.get(0).equals(encodedEventSignature)) {
             return null;
         }
 
         List<Type> indexedValues = new ArrayList<>();
-        List<Type> nonIndexedValues =
-                FunctionReturnDecoder.decode(log.getData(), event.getNonIndexedParameters());
+        List<Type> nonIndexedValues = nonIndexedDecoder.apply(log.getData());
 
         List<TypeReference<Type>> indexedParameters = event.getIndexedParameters();
         for (int i = 0; i < indexedParameters.size(); i++) {
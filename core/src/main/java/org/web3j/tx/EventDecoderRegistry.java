@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.EventValues;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.protocol.core.methods.response.Log;
+
+/**
+ * Decodes logs of any of a fixed set of events. The topic hash of every event is computed once and
+ * indexed, so matching a log is a single lookup on its first topic instead of hashing and comparing
+ * each candidate event as {@link Contract#staticExtractEventParameters(Event, Log)} does.
+ *
+ * <p>Events which share a signature but differ in which parameters are indexed, such as the ERC-20
+ * and ERC-721 <code>Transfer</code> events, are told apart by the number of topics in the log.
+ *
+ * <p>Instances are immutable and may be shared between threads.
+ */
+public class EventDecoderRegistry {
+
+    private final Map<String, List<RegisteredEvent>> eventsByTopic;
+
+    public EventDecoderRegistry(Event... events) {
+        this(Arrays.asList(events));
+    }
+
+    public EventDecoderRegistry(Collection<Event> events) {
+        Map<String, List<RegisteredEvent>> index = new HashMap<>();
+        for (Event event : events) {
+            index.computeIfAbsent(EventEncoder.encode(event), topic -> new ArrayList<>(1))
+                    .add(new RegisteredEvent(event));
+        }
+        this.eventsByTopic = index;
+    }
+
+    /**
+     * Decode a log if it was emitted by one of the registered events.
+     *
+     * @param log to decode
+     * @return decoded values of the event, or null if the log does not match a registered event
+     */
+    public DecodedEvent decode(Log log) {
+        List<String> topics = log.getTopics();
+        if (topics == null || topics.isEmpty()) {
+            return null;
+        }
+
+        List<RegisteredEvent> candidates = eventsByTopic.get(topics.get(0));
+        if (candidates == null) {
+            return null;
+        }
+        for (RegisteredEvent candidate : candidates) {
+            if (candidate.indexedParameters.size() == topics.size() - 1) {
+                return candidate.decode(log);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Decode the logs emitted by registered events, skipping any others.
+     *
+     * @param logs to decode
+     * @return decoded events, in the order of the logs
+     */
+    public List<DecodedEvent> decode(List<Log> logs) {
+        List<DecodedEvent> result = new ArrayList<>();
+        for (Log log : logs) {
+            DecodedEvent decoded = decode(log);
+            if (decoded != null) {
+                result.add(decoded);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the registered events.
+     *
+     * @return events, grouped by topic hash
+     */
+    public List<Event> getEvents() {
+        List<Event> events = new ArrayList<>();
+        for (List<RegisteredEvent> candidates : eventsByTopic.values()) {
+            for (RegisteredEvent candidate : candidates) {
+                events.add(candidate.event);
+            }
+        }
+        return Collections.unmodifiableList(events);
+    }
+
+    private static class RegisteredEvent {
+        private final Event event;
+        private final List<TypeReference<Type>> indexedParameters;
+        private final Function<String, List<Type>> nonIndexedDecoder;
+
+        RegisteredEvent(Event event) {
+            this.event = event;
+            this.indexedParameters = event.getIndexedParameters();
+            this.nonIndexedDecoder =
+                    FunctionReturnDecoder.decoderFor(event.getNonIndexedParameters());
+        }
+
+        DecodedEvent decode(Log log) {
+            List<String> topics = log.getTopics();
+
+            List<Type> indexedValues = new ArrayList<>(indexedParameters.size());
+            for (int i = 0; i < indexedParameters.size(); i++) {
+                indexedValues.add(
+                        FunctionReturnDecoder.decodeIndexedValue(
+                                topics.get(i + 1), indexedParameters.get(i)));
+            }
+            List<Type> nonIndexedValues = nonIndexedDecoder.apply(log.getData());
+
+            return new DecodedEvent(event, log, indexedValues, nonIndexedValues);
+        }
+    }
+
+    /** Values of a log together with the event definition that matched it and the log itself. */
+    public static class DecodedEvent extends EventValues {
+        private final Event event;
+        private final Log log;
+
+        public DecodedEvent(
+                Event event, Log log, List<Type> indexedValues, List<Type> nonIndexedValues) {
+            super(indexedValues, nonIndexedValues);
+            this.event = event;
+            this.log = log;
+        }
+
+        public Event getEvent() {
+            return event;
+        }
+
+        public Log getLog() {
+            return log;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.web3j.abi.FunctionCodec;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.RemoteFunctionCall;
+import org.web3j.tx.exceptions.ContractCallException;
+import org.web3j.utils.Async;
+
+import static org.web3j.abi.datatypes.Type.MAX_BYTE_LENGTH;
+
+/**
+ * Executes read-only contract calls in batches through a Multicall contract, so that many calls
+ * cost one <code>eth_call</code> per batch instead of one each.
+ *
+ * <p>Calls are queued with {@link #add(RemoteFunctionCall)}, which returns a future of the result
+ * of the call, and executed by {@link #send()} as calls to <code>
+ * tryAggregate(bool,(address,bytes)[])</code>, as implemented by the Multicall2 and Multicall3
+ * contracts. A batch holds at most a configured number of calls and bytes of call data. A call
+ * which reverts completes its future with a {@link ContractCallException}, without affecting the
+ * other calls of its batch; if a whole batch fails, all of its futures complete with the failure.
+ *
+ * <p>Only calls created by {@link Contract} for functions returning values can be batched.
+ */
+public class MulticallBatcher {
+
+    public static final int DEFAULT_MAX_CALLS = 500;
+    public static final int DEFAULT_MAX_CALL_DATA_LENGTH = 128 * 1024;
+
+    // Numeric.toHexString(Hash.sha3("Error(string)".getBytes())).substring(0, 10)
+    private static final byte[] ERROR_METHOD_ID = {0x08, (byte) 0xc3, 0x79, (byte) 0xa0};
+
+    // method id, requireSuccess, offset and length of the calls
+    private static final int AGGREGATE_LENGTH = 4 + 3 * MAX_BYTE_LENGTH;
+
+    // offset in the array, target, offset and length of the call data
+    private static final int CALL_LENGTH = 4 * MAX_BYTE_LENGTH;
+
+    private static final Function TRY_AGGREGATE =
+            new Function(
+                    "tryAggregate",
+                    Arrays.asList(
+                            new Bool(false), new DynamicArray<>(Call.class, new ArrayList<>())),
+                    Collections.singletonList(new TypeReference<DynamicArray<Result>>() {}));
+
+    private static final Function ERROR =
+            new Function(
+                    "Error",
+                    Collections.singletonList(Utf8String.DEFAULT),
+                    Collections.singletonList(new TypeReference<Utf8String>() {}));
+
+    private final TransactionManager transactionManager;
+    private final String multicallAddress;
+    private final DefaultBlockParameter defaultBlockParameter;
+    private final int maxCalls;
+    private final int maxCallDataLength;
+
+    private List<PendingCall<?>> pendingCalls = new ArrayList<>();
+
+    public MulticallBatcher(Web3j web3j, String multicallAddress) {
+        this(
+                new ReadonlyTransactionManager(web3j, null),
+                multicallAddress,
+                DefaultBlockParameterName.LATEST,
+                DEFAULT_MAX_CALLS,
+                DEFAULT_MAX_CALL_DATA_LENGTH);
+    }
+
+    /**
+     * Create a batcher.
+     *
+     * @param transactionManager to send the aggregate calls with
+     * @param multicallAddress address of the Multicall contract
+     * @param defaultBlockParameter block to execute the calls at
+     * @param maxCalls maximum number of calls in one aggregate call
+     * @param maxCallDataLength maximum length in bytes of the call data of one aggregate call,
+     *     exceeded only by batches of a single larger call
+     */
+    public MulticallBatcher(
+            TransactionManager transactionManager,
+            String multicallAddress,
+            DefaultBlockParameter defaultBlockParameter,
+            int maxCalls,
+            int maxCallDataLength) {
+        if (maxCalls < 1 || maxCallDataLength < 1) {
+            throw new IllegalArgumentException(
+                    "Batch limits must be positive: " + maxCalls + ", " + maxCallDataLength);
+        }
+        this.transactionManager = transactionManager;
+        this.multicallAddress = multicallAddress;
+        this.defaultBlockParameter = defaultBlockParameter;
+        this.maxCalls = maxCalls;
+        this.maxCallDataLength = maxCallDataLength;
+    }
+
+    /**
+     * Queue a call for the next {@link #send()}.
+     *
+     * @param call read-only contract call
+     * @param <T> result type of the call
+     * @return future completed with the result of the call once it is sent
+     * @throws IllegalArgumentException if the call cannot be batched
+     */
+    public synchronized <T> CompletableFuture<T> add(RemoteFunctionCall<T> call) {
+        if (call.getContractAddress() == null) {
+            throw new IllegalArgumentException(
+                    "Not a read-only contract call: " + call.getFunction().getName());
+        }
+        PendingCall<T> pendingCall = new PendingCall<>(call);
+        pendingCalls.add(pendingCall);
+        return pendingCall.future;
+    }
+
+    /**
+     * Returns the number of calls queued since the last {@link #send()}.
+     *
+     * @return number of queued calls
+     */
+    public synchronized int getPendingCalls() {
+        return pendingCalls.size();
+    }
+
+    /**
+     * Execute all queued calls, completing their futures. Failures are reported through the futures
+     * rather than thrown.
+     */
+    public void send() {
+        List<PendingCall<?>> calls;
+        synchronized (this) {
+            calls = pendingCalls;
+            pendingCalls = new ArrayList<>();
+        }
+
+        int start = 0;
+        while (start < calls.size()) {
+            int end = start + 1;
+            int callDataLength = AGGREGATE_LENGTH + calls.get(start).encodedLength();
+            while (end < calls.size() && end - start < maxCalls) {
+                int length = calls.get(end).encodedLength();
+                if (callDataLength + length > maxCallDataLength) {
+                    break;
+                }
+                callDataLength += length;
+                end++;
+            }
+            sendBatch(calls.subList(start, end));
+            start = end;
+        }
+    }
+
+    /**
+     * Execute all queued calls asynchronously.
+     *
+     * @return future completed once the futures of all queued calls are completed
+     */
+    public CompletableFuture<Void> sendAsync() {
+        return Async.run(
+                () -> {
+                    send();
+                    return null;
+                });
+    }
+
+    private void sendBatch(List<PendingCall<?>> batch) {
+        List<Call> calls = new ArrayList<>(batch.size());
+        for (PendingCall<?> pendingCall : batch) {
+            calls.add(pendingCall.call);
+        }
+
+        List<Type> results;
+        try {
+            String encodedFunction =
+                    FunctionCodec.of(TRY_AGGREGATE)
+                            .encode(
+                                    Arrays.asList(
+                                            new Bool(false),
+                                            new DynamicArray<>(Call.class, calls)));
+            String value =
+                    transactionManager.sendCall(
+                            multicallAddress, encodedFunction, defaultBlockParameter);
+            results = FunctionCodec.of(TRY_AGGREGATE).decode(value);
+        } catch (IOException | RuntimeException e) {
+            for (PendingCall<?> pendingCall : batch) {
+                pendingCall.future.completeExceptionally(e);
+            }
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Result> returnData =
+                results.isEmpty()
+                        ? Collections.emptyList()
+                        : ((DynamicArray<Result>) results.get(0)).getValue();
+        for (int i = 0; i < batch.size(); i++) {
+            if (i < returnData.size()) {
+                batch.get(i).complete(returnData.get(i));
+            } else {
+                batch.get(i)
+                        .future
+                        .completeExceptionally(
+                                new ContractCallException(
+                                        "No result for call "
+                                                + i
+                                                + " of "
+                                                + batch.size()
+                                                + " returned from "
+                                                + multicallAddress));
+            }
+        }
+    }
+
+    private static class PendingCall<T> {
+        private final RemoteFunctionCall<T> remoteFunctionCall;
+        private final Call call;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        PendingCall(RemoteFunctionCall<T> remoteFunctionCall) {
+            this.remoteFunctionCall = remoteFunctionCall;
+            this.call =
+                    new Call(
+                            new Address(remoteFunctionCall.getContractAddress()),
+                            new DynamicBytes(
+                                    FunctionEncoder.encodeToBytes(
+                                            remoteFunctionCall.getFunction())));
+        }
+
+        int encodedLength() {
+            int length = call.callData.getValue().length;
+            return CALL_LENGTH + (length + MAX_BYTE_LENGTH - 1) / MAX_BYTE_LENGTH * MAX_BYTE_LENGTH;
+        }
+
+        void complete(Result result) {
+            Function function = remoteFunctionCall.getFunction();
+            byte[] returnData = result.returnData.getValue();
+            try {
+                if (!result.success.getValue()) {
+                    throw new ContractCallException(
+                            "Contract call "
+                                    + function.getName()
+                                    + " to "
+                                    + remoteFunctionCall.getContractAddress()
+                                    + " reverted: "
+                                    + revertReason(returnData));
+                }
+                List<Type> values = FunctionCodec.of(function).decode(returnData);
+                future.complete(remoteFunctionCall.convertFunctionResponse(values));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static String revertReason(byte[] returnData) {
+        if (returnData.length < ERROR_METHOD_ID.length
+                || !Arrays.equals(
+                        ERROR_METHOD_ID, Arrays.copyOf(returnData, ERROR_METHOD_ID.length))) {
+            return "no reason given";
+        }
+        List<Type> decoded =
+                FunctionCodec.of(ERROR)
+                        .decode(
+                                Arrays.copyOfRange(
+                                        returnData, ERROR_METHOD_ID.length, returnData.length));
+        return decoded.isEmpty() ? "no reason given" : decoded.get(0).getValue().toString();
+    }
+
+    /** Call of the Multicall contract: the target contract and the encoded function call. */
+    public static class Call extends DynamicStruct {
+        private final DynamicBytes callData;
+
+        public Call(Address target, DynamicBytes callData) {
+            super(target, callData);
+            this.callData = callData;
+        }
+    }
+
+    /** Result of a call of the Multicall contract: whether it succeeded and its return data. */
+    public static class Result extends DynamicStruct {
+        private final Bool success;
+        private final DynamicBytes returnData;
+
+        public Result(Bool success, DynamicBytes returnData) {
+            super(success, returnData);
+            this.success = success;
+            this.returnData = returnData;
+        }
+    }
+}
@@ -14,10 +14,13 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.web3j.abi.EventEncoder;
 import org.web3j.abi.EventValues;
 import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.TypeEncoder;
 import org.web3j.abi.TypeReference;
 import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.Event;
@@ -503,6 +507,51 @@ public class ContractTest extends ManagedTransactionTester {
         assertEquals(eventValuesWithLogs2.get(0).getLog(), logs.get(1));
     }
 
+    @Test
+    public void testExtractEventParametersFromManyLogs() {
+        Event transfer =
+                new Event(
+                        "Transfer",
+                        Arrays.asList(
+                                new TypeReference<Address>(true) {},
+                                new TypeReference<Uint256>() {}));
+        Event other = new Event("Other", emptyList());
+
+        List<Log> logs = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Event event = i % 7 == 0 ? other : transfer;
+            Log log = new Log();
+            log.setTopics(
+                    Arrays.asList(
+                            EventEncoder.encode(event),
+                            "0x" + TypeEncoder.encode(new Address(BigInteger.valueOf(i)))));
+            log.setData("0x" + TypeEncoder.encode(new Uint256(i)));
+            logs.add(log);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<EventValues> eventValues =
+                    Contract.staticExtractEventParameters(transfer, logs, executor);
+
+            assertEquals(eventValues.size(), (logs.size()));
+            for (int i = 0; i < logs.size(); i++) {
+                if (i % 7 == 0) {
+                    assertNull(eventValues.get(i));
+                } else {
+                    assertEquals(
+                            eventValues.get(i).getIndexedValues(),
+                            (singletonList(new Address(BigInteger.valueOf(i)))));
+                    assertEquals(
+                            eventValues.get(i).getNonIndexedValues(),
+                            (singletonList(new Uint256(i))));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     void testErrorScenario() throws Throwable {
         try {
             contract.performTransaction(new Address(BigInteger.TEN), new Uint256(BigInteger.ONE))
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.tx.EventDecoderRegistry.DecodedEvent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class EventDecoderRegistryTest {
+
+    private static final String FROM =
+            "0x000000000000000000000000ef678007d18427e6022059dbc264f27507cd1ffc";
+    private static final String TO =
+            "0x0000000000000000000000005d22045daceab03b158031ecb7d9d06fad24609b";
+    private static final String ONE =
+            "0x0000000000000000000000000000000000000000000000000000000000000001";
+
+    private static final Event ERC20_TRANSFER =
+            new Event(
+                    "Transfer",
+                    Arrays.asList(
+                            new TypeReference<Address>(true) {},
+                            new TypeReference<Address>(true) {},
+                            new TypeReference<Uint256>() {}));
+
+    private static final Event ERC721_TRANSFER =
+            new Event(
+                    "Transfer",
+                    Arrays.asList(
+                            new TypeReference<Address>(true) {},
+                            new TypeReference<Address>(true) {},
+                            new TypeReference<Uint256>(true) {}));
+
+    private static final Event APPROVAL =
+            new Event(
+                    "Approval",
+                    Arrays.asList(
+                            new TypeReference<Address>(true) {},
+                            new TypeReference<Address>(true) {},
+                            new TypeReference<Uint256>() {}));
+
+    private final EventDecoderRegistry registry =
+            new EventDecoderRegistry(ERC20_TRANSFER, ERC721_TRANSFER);
+
+    @Test
+    public void testDecodeDispatchesOnTopicCount() {
+        DecodedEvent erc20 =
+                registry.decode(log(ONE, EventEncoder.encode(ERC20_TRANSFER), FROM, TO));
+        assertSame(ERC20_TRANSFER, erc20.getEvent());
+        assertEquals(Arrays.asList(new Address(FROM), new Address(TO)), erc20.getIndexedValues());
+        assertEquals(
+                Collections.singletonList(new Uint256(BigInteger.ONE)),
+                erc20.getNonIndexedValues());
+
+        DecodedEvent erc721 =
+                registry.decode(log("0x", EventEncoder.encode(ERC721_TRANSFER), FROM, TO, ONE));
+        assertSame(ERC721_TRANSFER, erc721.getEvent());
+        assertEquals(
+                Arrays.asList(new Address(FROM), new Address(TO), new Uint256(BigInteger.ONE)),
+                erc721.getIndexedValues());
+        assertEquals(Collections.emptyList(), erc721.getNonIndexedValues());
+    }
+
+    @Test
+    public void testDecodeUnknownLog() {
+        assertNull(registry.decode(log(ONE, EventEncoder.encode(APPROVAL), FROM, TO)));
+        assertNull(registry.decode(log(ONE)));
+        assertNull(registry.decode(log(ONE, EventEncoder.encode(ERC20_TRANSFER), FROM)));
+    }
+
+    @Test
+    public void testDecodeLogs() {
+        Log approval = log(ONE, EventEncoder.encode(APPROVAL), FROM, TO);
+        Log transfer = log(ONE, EventEncoder.encode(ERC20_TRANSFER), TO, FROM);
+
+        List<DecodedEvent> decoded = registry.decode(Arrays.asList(approval, transfer));
+
+        assertEquals(1, decoded.size());
+        assertSame(transfer, decoded.get(0).getLog());
+        assertEquals(
+                Arrays.asList(new Address(TO), new Address(FROM)),
+                decoded.get(0).getIndexedValues());
+    }
+
+    private static Log log(String data, String... topics) {
+        Log log = new Log();
+        log.setTopics(Arrays.asList(topics));
+        log.setData(data);
+        return log;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.Utils;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.Service;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.RemoteFunctionCall;
+import org.web3j.tx.MulticallBatcher.Call;
+import org.web3j.tx.MulticallBatcher.Result;
+import org.web3j.tx.exceptions.ContractCallException;
+import org.web3j.tx.gas.DefaultGasProvider;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MulticallBatcherTest {
+
+    private static final String MULTICALL_ADDRESS = "0x5ba1e12693dc8f9c48aad8770482f4739beed696";
+    private static final String TOKEN_ADDRESS = "0x6b175474e89094c44da98b954eedeac495271d0f";
+
+    private final StandInNode node = new StandInNode();
+    private final Web3j web3j = Web3j.build(node);
+    private final Token token =
+            new Token(
+                    TOKEN_ADDRESS,
+                    web3j,
+                    new ReadonlyTransactionManager(web3j, null),
+                    new DefaultGasProvider());
+
+    @Test
+    public void testSendBatchesCalls() throws Exception {
+        MulticallBatcher batcher =
+                new MulticallBatcher(
+                        new ReadonlyTransactionManager(web3j, null),
+                        MULTICALL_ADDRESS,
+                        DefaultBlockParameterName.LATEST,
+                        3,
+                        MulticallBatcher.DEFAULT_MAX_CALL_DATA_LENGTH);
+
+        List<CompletableFuture<BigInteger>> balances = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            node.balances.put(account(i), BigInteger.valueOf(i * 100));
+            balances.add(batcher.add(token.balanceOf(account(i))));
+        }
+        assertEquals(7, batcher.getPendingCalls());
+
+        batcher.send();
+
+        assertEquals(0, batcher.getPendingCalls());
+        assertEquals(3, node.calls);
+        for (int i = 1; i <= 7; i++) {
+            assertEquals(BigInteger.valueOf(i * 100), balances.get(i - 1).get());
+        }
+    }
+
+    @Test
+    public void testSendSplitsByCallDataLength() throws Exception {
+        // method id, flag, offset and length of the calls, and two calls of 36 bytes
+        int twoCalls = 4 + 3 * 32 + 2 * (4 * 32 + 64);
+        MulticallBatcher batcher =
+                new MulticallBatcher(
+                        new ReadonlyTransactionManager(web3j, null),
+                        MULTICALL_ADDRESS,
+                        DefaultBlockParameterName.LATEST,
+                        MulticallBatcher.DEFAULT_MAX_CALLS,
+                        twoCalls);
+
+        for (int i = 1; i <= 5; i++) {
+            node.balances.put(account(i), BigInteger.ONE);
+            batcher.add(token.balanceOf(account(i)));
+        }
+        batcher.sendAsync().get();
+
+        assertEquals(3, node.calls);
+    }
+
+    @Test
+    public void testRevertedCallFailsOnlyItsFuture() throws Exception {
+        MulticallBatcher batcher = new MulticallBatcher(web3j, MULTICALL_ADDRESS);
+
+        node.balances.put(account(1), BigInteger.TEN);
+        CompletableFuture<BigInteger> known = batcher.add(token.balanceOf(account(1)));
+        CompletableFuture<BigInteger> unknown = batcher.add(token.balanceOf(account(2)));
+        batcher.send();
+
+        assertEquals(BigInteger.TEN, known.get());
+        ExecutionException e = assertThrows(ExecutionException.class, unknown::get);
+        assertTrue(e.getCause() instanceof ContractCallException);
+        assertTrue(e.getCause().getMessage().endsWith("reverted: unknown account"));
+    }
+
+    @Test
+    public void testFailedBatchFailsAllFutures() {
+        MulticallBatcher batcher = new MulticallBatcher(web3j, "0x" + account(9));
+
+        CompletableFuture<BigInteger> balance = batcher.add(token.balanceOf(account(1)));
+        batcher.send();
+
+        ExecutionException e = assertThrows(ExecutionException.class, balance::get);
+        assertTrue(e.getCause() instanceof ContractCallException);
+    }
+
+    @Test
+    public void testAddRejectsTransactions() {
+        MulticallBatcher batcher = new MulticallBatcher(web3j, MULTICALL_ADDRESS);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> batcher.add(new RemoteFunctionCall<>(balanceOf(account(1)), () -> null)));
+    }
+
+    private static String account(int i) {
+        return String.format("%040x", i);
+    }
+
+    private static Function balanceOf(String owner) {
+        return new Function(
+                "balanceOf",
+                Collections.singletonList(new Address(owner)),
+                Collections.singletonList(new TypeReference<Uint256>() {}));
+    }
+
+    private static class Token extends Contract {
+        Token(
+                String contractAddress,
+                Web3j web3j,
+                TransactionManager transactionManager,
+                DefaultGasProvider gasProvider) {
+            super("", contractAddress, web3j, transactionManager, gasProvider);
+        }
+
+        RemoteFunctionCall<BigInteger> balanceOf(String owner) {
+            return executeRemoteCallSingleValueReturn(
+                    MulticallBatcherTest.balanceOf(owner), BigInteger.class);
+        }
+    }
+
+    /**
+     * Node serving <code>eth_call</code> for a Multicall contract and a token contract with
+     * balances, reverting the calls of the Multicall contract to any other address.
+     */
+    private static class StandInNode extends Service {
+        private final Map<String, BigInteger> balances = new HashMap<>();
+        private int calls;
+
+        StandInNode() {
+            super(false);
+        }
+
+        @Override
+        protected InputStream performIO(String payload) throws IOException {
+            JsonNode request = objectMapper.readTree(payload);
+            JsonNode transaction = request.get("params").get(0);
+
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("jsonrpc", "2.0");
+            response.put("id", request.get("id").asLong());
+            if (MULTICALL_ADDRESS.equals(transaction.get("to").asText())) {
+                calls++;
+                response.put("result", tryAggregate(transaction.get("data").asText()));
+            } else {
+                ObjectNode error = response.putObject("error");
+                error.put("code", -32000);
+                error.put("message", "execution reverted");
+            }
+            return new ByteArrayInputStream(
+                    objectMapper.writeValueAsString(response).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @SuppressWarnings("unchecked")
+        private String tryAggregate(String data) {
+            List<Type> parameters =
+                    FunctionReturnDecoder.decode(
+                            data.substring(10),
+                            Utils.convert(
+                                    Arrays.asList(
+                                            new TypeReference<Bool>() {},
+                                            new TypeReference<DynamicArray<Call>>() {})));
+
+            List<Result> results = new ArrayList<>();
+            for (Call call : ((DynamicArray<Call>) parameters.get(1)).getValue()) {
+                Address target = (Address) call.getValue().get(0);
+                byte[] callData = ((DynamicBytes) call.getValue().get(1)).getValue();
+                BigInteger balance =
+                        balances.get(Numeric.toHexStringNoPrefix(callData).substring(32));
+
+                if (TOKEN_ADDRESS.equals(target.toString()) && balance != null) {
+                    results.add(result(true, "0x", new Uint256(balance)));
+                } else {
+                    results.add(result(false, "0x08c379a0", new Utf8String("unknown account")));
+                }
+            }
+            return "0x"
+                    + FunctionEncoder.encodeConstructor(
+                            Collections.singletonList(new DynamicArray<>(Result.class, results)));
+        }
+
+        private static Result result(boolean success, String prefix, Type value) {
+            String returnData =
+                    prefix + FunctionEncoder.encodeConstructor(Collections.singletonList(value));
+            return new Result(
+                    new Bool(success), new DynamicBytes(Numeric.hexStringToByteArray(returnData)));
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -13,14 +13,9 @@
 package org.web3j.crypto;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
-import org.web3j.rlp.RlpEncoder;
-import org.web3j.rlp.RlpList;
-import org.web3j.rlp.RlpString;
-import org.web3j.rlp.RlpType;
+import org.web3j.rlp.RlpWriter;
 import org.web3j.utils.Numeric;
 
 /** Smart Contract utility functions. */
@@ -35,13 +30,13 @@ public class ContractUtils {
      * @return the generated smart contract address
      */
     public static byte[] generateContractAddress(byte[] address, BigInteger nonce) {
-        List<RlpType> values = new ArrayList<>();
-
-        values.add(RlpString.create(address));
-        values.add(RlpString.create(nonce));
-        RlpList rlpList = new RlpList(values);
-
-        byte[] encoded = RlpEncoder.encode(rlpList);
+        byte[] encoded =
+                new RlpWriter()
+                        .startList()
+                        .writeBytes(address)
+                        .writeBigInteger(nonce)
+                        .endList()
+                        .toByteArray();
         byte[] hashed = Hash.sha3(encoded);
         return Arrays.copyOfRange(hashed, 12, hashed.length);
     }
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.SignatureException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.spongycastle.math.ec.ECAlgorithms;
+import org.spongycastle.math.ec.ECPoint;
+import org.spongycastle.math.ec.custom.sec.SecP256K1Curve;
+
+import org.web3j.utils.Numeric;
+
+/**
+ * Recovers the addresses of the senders of signed transactions.
+ *
+ * <p>Recovery follows {@link Sign#recoverFromSignature(int, ECDSASignature, byte[])}, rejecting
+ * signatures whose r or s are not in the range 1 to n - 1. It works from the bytes of the signature
+ * and derives the 20 byte address from the recovered point without hex encoding the public key. As
+ * secp256k1 has a cofactor of one the candidate point R is not checked to be of order n, and the
+ * two scalar multiplications share a single pass using the curve's GLV endomorphism.
+ *
+ * <p>An instance may keep a bounded cache of senders keyed by transaction hash, so that
+ * transactions seen repeatedly, such as those pending in the mempool, are recovered once. Instances
+ * are safe for use from multiple threads.
+ */
+public class SenderRecovery {
+
+    /** Length in bytes of a recovered address. */
+    public static final int ADDRESS_LENGTH = 20;
+
+    private static final int SIGNATURE_COMPONENT_LENGTH = 32;
+
+    private final Map<ByteBuffer, byte[]> cache;
+
+    /** Create an instance without a cache. */
+    public SenderRecovery() {
+        this(0);
+    }
+
+    /**
+     * Create an instance which caches senders by transaction hash.
+     *
+     * @param cacheSize maximum number of senders held, the least recently used are evicted first,
+     *     or 0 for no cache
+     */
+    public SenderRecovery(int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative: " + cacheSize);
+        }
+        this.cache =
+                cacheSize == 0
+                        ? null
+                        : new LinkedHashMap<ByteBuffer, byte[]>(16, 0.75f, true) {
+                            @Override
+                            protected boolean removeEldestEntry(
+                                    Map.Entry<ByteBuffer, byte[]> eldest) {
+                                return size() > cacheSize;
+                            }
+                        };
+    }
+
+    /**
+     * Recover the sender of an RLP encoded signed transaction, as {@link
+     * SignatureDataOperations#getFrom()} of the decoded transaction.
+     *
+     * @param signedTransaction RLP encoded signed transaction
+     * @return 20 byte sender address
+     * @throws SignatureException if the sender could not be recovered
+     */
+    public byte[] recoverSender(byte[] signedTransaction) throws SignatureException {
+        byte[] transactionHash = null;
+        byte[] sender = null;
+        if (cache != null) {
+            transactionHash = Hash.sha3(signedTransaction);
+            sender = cached(transactionHash);
+        }
+        if (sender == null) {
+            RawTransaction transaction = TransactionDecoder.decode(signedTransaction);
+            if (!(transaction instanceof SignedRawTransaction)) {
+                throw new SignatureException("Transaction is not signed");
+            }
+            sender = recover((SignedRawTransaction) transaction, transactionHash);
+        }
+        return sender.clone();
+    }
+
+    /**
+     * Recover the sender of a signed transaction, as {@link SignatureDataOperations#getFrom()}.
+     *
+     * @param transaction signed transaction
+     * @return 20 byte sender address
+     * @throws SignatureException if the sender could not be recovered
+     */
+    public byte[] recoverSender(SignedRawTransaction transaction) throws SignatureException {
+        byte[] transactionHash = null;
+        byte[] sender = null;
+        if (cache != null) {
+            transactionHash =
+                    Hash.sha3(
+                            TransactionEncoder.encode(transaction, transaction.getSignatureData()));
+            sender = cached(transactionHash);
+        }
+        if (sender == null) {
+            sender = recover(transaction, transactionHash);
+        }
+        return sender.clone();
+    }
+
+    private byte[] recover(SignedRawTransaction transaction, byte[] transactionHash)
+            throws SignatureException {
+        Sign.SignatureData signatureData = transaction.getSignatureData();
+        byte[] messageHash = Hash.sha3(transaction.getEncodedTransaction(transaction.getChainId()));
+        byte v = transaction.getRealV(Numeric.toBigInt(signatureData.getV()));
+
+        byte[] sender = recoverAddress(messageHash, v, signatureData.getR(), signatureData.getS());
+        if (cache != null) {
+            synchronized (cache) {
+                cache.put(ByteBuffer.wrap(transactionHash), sender);
+            }
+        }
+        return sender;
+    }
+
+    private byte[] cached(byte[] transactionHash) {
+        if (cache == null) {
+            return null;
+        }
+        synchronized (cache) {
+            return cache.get(ByteBuffer.wrap(transactionHash));
+        }
+    }
+
+    /**
+     * Recover the address which signed a message hash.
+     *
+     * @param messageHash the hash that was signed
+     * @param signatureData signature with a v value from 27 to 34
+     * @return 20 byte address
+     * @throws SignatureException if the address could not be recovered
+     */
+    public static byte[] recoverAddress(byte[] messageHash, Sign.SignatureData signatureData)
+            throws SignatureException {
+        return recoverAddress(
+                messageHash, signatureData.getV()[0], signatureData.getR(), signatureData.getS());
+    }
+
+    static byte[] recoverAddress(byte[] messageHash, byte v, byte[] r, byte[] s)
+            throws SignatureException {
+        if (r == null || r.length != SIGNATURE_COMPONENT_LENGTH) {
+            throw new SignatureException("r must be 32 bytes");
+        }
+        if (s == null || s.length != SIGNATURE_COMPONENT_LENGTH) {
+            throw new SignatureException("s must be 32 bytes");
+        }
+        int header = v & 0xFF;
+        if (header < 27 || header > 34) {
+            throw new SignatureException("Header byte out of range: " + header);
+        }
+
+        ECPoint q = recoverPoint(header - 27, r, s, messageHash);
+        if (q == null) {
+            throw new SignatureException("Could not recover public key from signature");
+        }
+        return toAddress(q);
+    }
+
+    /**
+     * Recover the public key point of a signature, see {@link Sign#recoverFromSignature(int,
+     * ECDSASignature, byte[])}.
+     *
+     * @return the normalized public key point, or null if recovery was not possible
+     */
+    static ECPoint recoverPoint(int recId, byte[] r, byte[] s, byte[] messageHash) {
+        BigInteger n = Sign.CURVE.getN();
+        BigInteger rValue = new BigInteger(1, r);
+        BigInteger sValue = new BigInteger(1, s);
+        if (!isValidComponent(rValue) || !isValidComponent(sValue)) {
+            return null;
+        }
+        ECPoint rPoint = decompressR(recId, r, rValue);
+        if (rPoint == null) {
+            return null;
+        }
+        return recoverPoint(rPoint, rValue.modInverse(n), sValue, messageHash).normalize();
+    }
+
+    /** Returns true for signature components r and s in the range 1 to n - 1. */
+    static boolean isValidComponent(BigInteger value) {
+        return value.signum() > 0 && value.compareTo(Sign.CURVE.getN()) < 0;
+    }
+
+    /** Compute Q = r^-1 (sR - eG) given the inverse of r, without normalizing it. */
+    static ECPoint recoverPoint(ECPoint rPoint, BigInteger rInv, BigInteger s, byte[] messageHash) {
+        BigInteger n = Sign.CURVE.getN();
+        BigInteger e = new BigInteger(1, messageHash);
+        BigInteger eInvrInv = rInv.multiply(n.subtract(e.mod(n))).mod(n);
+        BigInteger srInv = rInv.multiply(s).mod(n);
+        return ECAlgorithms.sumOfTwoMultiplies(Sign.CURVE.getG(), eInvrInv, rPoint, srInv);
+    }
+
+    /**
+     * Decompress the point R whose x co-ordinate is r + (recId / 2) n, and whose y co-ordinate has
+     * the parity of the recovery id.
+     *
+     * @return the point, or null if there is no such point on the curve
+     */
+    static ECPoint decompressR(int recId, byte[] r, BigInteger rValue) {
+        byte[] encoded = new byte[1 + SIGNATURE_COMPONENT_LENGTH];
+        encoded[0] = (byte) ((recId & 1) == 1 ? 0x03 : 0x02);
+        if (recId < 2) {
+            System.arraycopy(r, 0, encoded, 1, SIGNATURE_COMPONENT_LENGTH);
+        } else {
+            BigInteger x = rValue.add(BigInteger.valueOf(recId / 2).multiply(Sign.CURVE.getN()));
+            if (x.compareTo(SecP256K1Curve.q) >= 0) {
+                return null;
+            }
+            byte[] xBytes = Numeric.toBytesPadded(x, SIGNATURE_COMPONENT_LENGTH);
+            System.arraycopy(xBytes, 0, encoded, 1, SIGNATURE_COMPONENT_LENGTH);
+        }
+        try {
+            return Sign.CURVE.getCurve().decodePoint(encoded);
+        } catch (IllegalArgumentException e) {
+            // x is not the co-ordinate of a point on the curve
+            return null;
+        }
+    }
+
+    /** Derive the address of a normalized public key point. */
+    static byte[] toAddress(ECPoint publicKey) {
+        byte[] encoded = publicKey.getEncoded(false);
+        // hash the co-ordinates without the 0x04 prefix, the address is the right most 160 bits
+        byte[] hash = Hash.sha3(encoded, 1, encoded.length - 1);
+        return Arrays.copyOfRange(hash, hash.length - ADDRESS_LENGTH, hash.length);
+    }
+}
@@ -15,6 +15,9 @@ package org.web3j.crypto;
 import java.math.BigInteger;
 import java.security.SignatureException;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.spongycastle.asn1.x9.X9ECParameters;
 import org.spongycastle.asn1.x9.X9IntegerConverter;
@@ -47,6 +50,9 @@ public class Sign {
                     CURVE_PARAMS.getH());
     static final BigInteger HALF_CURVE_ORDER = CURVE_PARAMS.getN().shiftRight(1);
 
+    /** Maximum number of signatures recovered by a single task in {@link #recoverAll}. */
+    public static final int RECOVER_BATCH_THRESHOLD = 64;
+
     static final String MESSAGE_PREFIX = "\u0019Ethereum Signed Message:\n";
 
     static byte[] getEthereumMessagePrefix(int messageLength) {
@@ -54,13 +60,7 @@ public class Sign {
     }
 
     static byte[] getEthereumMessageHash(byte[] message) {
-        byte[] prefix = getEthereumMessagePrefix(message.length);
-
-        byte[] result = new byte[prefix.length + message.length];
-        System.arraycopy(prefix, 0, result, 0, prefix.length);
-        System.arraycopy(message, 0, result, prefix.length, message.length);
-
-        return Hash.sha3(result);
+        return Hash.sha3(getEthereumMessagePrefix(message.length), message);
     }
 
     public static SignatureData signPrefixedMessage(byte[] message, ECKeyPair keyPair) {
@@ -263,6 +263,173 @@ public class Sign {
         return key;
     }
 
+    /**
+     * Recover the public keys which signed each of the given message hashes. Large batches are
+     * recovered in parallel, see {@link #recoverAll(List, List, ForkJoinPool)}.
+     *
+     * @param messageHashes the hashes that were signed
+     * @param signatures the signature of each message hash, with v values from 27 to 34
+     * @return the public key of each signature, in the same order, or null for signatures from
+     *     which no key could be recovered
+     */
+    public static List<BigInteger> recoverAll(
+            List<byte[]> messageHashes, List<SignatureData> signatures) {
+        return recoverAll(messageHashes, signatures, null);
+    }
+
+    /**
+     * Recover the public keys which signed each of the given message hashes, as {@link
+     * #signedMessageHashToKey(byte[], SignatureData)} does for a single signature.
+     *
+     * <p>Batches of more than {@link #RECOVER_BATCH_THRESHOLD} signatures are split into fork-join
+     * tasks which run in the given pool, bounding the number of threads used. If no pool is given
+     * they run in the current fork-join pool, or the common pool if called from outside one. Within
+     * each task the r values are inverted together, and the recovered points normalized together,
+     * each with a single modular inversion. Signatures which are malformed, or whose r or s are not
+     * in the range 1 to n - 1, are not recovered.
+     *
+     * @param messageHashes the hashes that were signed
+     * @param signatures the signature of each message hash, with v values from 27 to 34
+     * @param pool to recover in, or null
+     * @return the public key of each signature, in the same order, or null for signatures from
+     *     which no key could be recovered
+     */
+    public static List<BigInteger> recoverAll(
+            List<byte[]> messageHashes, List<SignatureData> signatures, ForkJoinPool pool) {
+        if (signatures.size() != messageHashes.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + messageHashes.size() + " signatures, got " + signatures.size());
+        }
+
+        byte[][] hashes = messageHashes.toArray(new byte[0][]);
+        SignatureData[] signatureData = signatures.toArray(new SignatureData[0]);
+        BigInteger[] keys = new BigInteger[hashes.length];
+        if (hashes.length <= RECOVER_BATCH_THRESHOLD) {
+            recoverRange(hashes, signatureData, keys, 0, hashes.length);
+        } else {
+            RecoverBatchTask task =
+                    new RecoverBatchTask(hashes, signatureData, keys, 0, hashes.length);
+            if (pool != null) {
+                pool.invoke(task);
+            } else {
+                task.invoke();
+            }
+        }
+        return Arrays.asList(keys);
+    }
+
+    private static void recoverRange(
+            byte[][] hashes, SignatureData[] signatures, BigInteger[] keys, int from, int to) {
+        int count = to - from;
+        ECPoint[] rPoints = new ECPoint[count];
+        BigInteger[] rValues = new BigInteger[count];
+        BigInteger[] sValues = new BigInteger[count];
+        for (int i = 0; i < count; i++) {
+            SignatureData signature = signatures[from + i];
+            if (signature == null || hashes[from + i] == null) {
+                continue;
+            }
+            byte[] r = signature.getR();
+            byte[] s = signature.getS();
+            byte[] v = signature.getV();
+            if (r == null || r.length != 32 || s == null || s.length != 32) {
+                continue;
+            }
+            if (v == null || v.length == 0) {
+                continue;
+            }
+            int header = v[0] & 0xFF;
+            if (header < 27 || header > 34) {
+                continue;
+            }
+            BigInteger rValue = new BigInteger(1, r);
+            BigInteger sValue = new BigInteger(1, s);
+            if (!SenderRecovery.isValidComponent(rValue)
+                    || !SenderRecovery.isValidComponent(sValue)) {
+                continue;
+            }
+            rPoints[i] = SenderRecovery.decompressR(header - 27, r, rValue);
+            if (rPoints[i] != null) {
+                rValues[i] = rValue;
+                sValues[i] = sValue;
+            }
+        }
+
+        BigInteger[] rInverses = modInverseAll(rValues, CURVE.getN());
+
+        ECPoint[] points = new ECPoint[count];
+        int[] indices = new int[count];
+        int recovered = 0;
+        for (int i = 0; i < count; i++) {
+            if (rInverses[i] != null) {
+                points[recovered] =
+                        SenderRecovery.recoverPoint(
+                                rPoints[i], rInverses[i], sValues[i], hashes[from + i]);
+                indices[recovered++] = from + i;
+            }
+        }
+
+        ECPoint[] normalized = Arrays.copyOf(points, recovered);
+        CURVE.getCurve().normalizeAll(normalized);
+        for (int i = 0; i < recovered; i++) {
+            keys[indices[i]] = publicFromPoint(normalized[i].getEncoded(false));
+        }
+    }
+
+    /**
+     * Invert each of the non null values modulo m with a single modular inversion, using
+     * Montgomery's trick.
+     */
+    static BigInteger[] modInverseAll(BigInteger[] values, BigInteger m) {
+        BigInteger[] products = new BigInteger[values.length];
+        BigInteger product = BigInteger.ONE;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                products[i] = product;
+                product = product.multiply(values[i]).mod(m);
+            }
+        }
+
+        BigInteger[] inverses = new BigInteger[values.length];
+        BigInteger inverse = product.modInverse(m);
+        for (int i = values.length - 1; i >= 0; i--) {
+            if (values[i] != null) {
+                inverses[i] = inverse.multiply(products[i]).mod(m);
+                inverse = inverse.multiply(values[i]).mod(m);
+            }
+        }
+        return inverses;
+    }
+
+    private static class RecoverBatchTask extends RecursiveAction {
+        private final byte[][] hashes;
+        private final SignatureData[] signatures;
+        private final BigInteger[] keys;
+        private final int from;
+        private final int to;
+
+        RecoverBatchTask(
+                byte[][] hashes, SignatureData[] signatures, BigInteger[] keys, int from, int to) {
+            this.hashes = hashes;
+            this.signatures = signatures;
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= RECOVER_BATCH_THRESHOLD) {
+                recoverRange(hashes, signatures, keys, from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new RecoverBatchTask(hashes, signatures, keys, from, middle),
+                        new RecoverBatchTask(hashes, signatures, keys, middle, to));
+            }
+        }
+    }
+
     /**
      * Returns public key from the given private key.
      *
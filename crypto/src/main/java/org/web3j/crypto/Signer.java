@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.spongycastle.crypto.digests.SHA256Digest;
+import org.spongycastle.crypto.signers.HMacDSAKCalculator;
+import org.spongycastle.math.ec.ECMultiplier;
+import org.spongycastle.math.ec.ECPoint;
+import org.spongycastle.math.ec.FixedPointCombMultiplier;
+
+/**
+ * Signs message hashes with a single private key.
+ *
+ * <p>Signatures are the same deterministic (RFC 6979) ECDSA signatures as those of {@link
+ * ECKeyPair#sign(byte[])} and {@link Sign#signMessage(byte[], ECKeyPair, boolean)}. The recovery id
+ * is taken from the point R generated while signing, rather than by recovering up to four public
+ * keys from the signature and comparing them with the key pair's public key.
+ *
+ * <p>Instances are immutable and may be shared between threads.
+ */
+public class Signer {
+
+    /**
+     * Length of a signature written by {@link #signHash(byte[], byte[], int)}: 32 bytes of r, 32
+     * bytes of s and the v byte.
+     */
+    public static final int SIGNATURE_LENGTH = 65;
+
+    private static final ECMultiplier BASE_POINT_MULTIPLIER = new FixedPointCombMultiplier();
+
+    private final ECKeyPair keyPair;
+    private final BigInteger privateKey;
+
+    private Signer(ECKeyPair keyPair) {
+        this.keyPair = keyPair;
+        this.privateKey = keyPair.getPrivateKey();
+    }
+
+    public static Signer create(ECKeyPair keyPair) {
+        return new Signer(keyPair);
+    }
+
+    public static Signer create(Credentials credentials) {
+        return create(credentials.getEcKeyPair());
+    }
+
+    public ECKeyPair getEcKeyPair() {
+        return keyPair;
+    }
+
+    /**
+     * Sign the Keccak-256 hash of a message.
+     *
+     * @param message the message to sign
+     * @return the signature, with a v value of 27 or 28
+     */
+    public Sign.SignatureData signMessage(byte[] message) {
+        return signHash(Hash.sha3(message));
+    }
+
+    /**
+     * Sign a message hash.
+     *
+     * @param messageHash the hash to sign
+     * @return the signature, with a v value of 27 or 28
+     */
+    public Sign.SignatureData signHash(byte[] messageHash) {
+        byte[] signature = new byte[SIGNATURE_LENGTH];
+        signHash(messageHash, signature, 0);
+        return new Sign.SignatureData(
+                signature[64],
+                Arrays.copyOfRange(signature, 0, 32),
+                Arrays.copyOfRange(signature, 32, 64));
+    }
+
+    /**
+     * Sign a message hash, writing r, s and v to the given array.
+     *
+     * @param messageHash the hash to sign
+     * @param output array to write {@link #SIGNATURE_LENGTH} bytes of signature to
+     * @param offset of the signature in output
+     */
+    public void signHash(byte[] messageHash, byte[] output, int offset) {
+        BigInteger n = Sign.CURVE.getN();
+        BigInteger e = calculateE(n, messageHash);
+
+        HMacDSAKCalculator kCalculator = new HMacDSAKCalculator(new SHA256Digest());
+        kCalculator.init(n, privateKey, messageHash);
+
+        // as ECDSASigner, additionally keeping the parity of R's y co-ordinate and whether its
+        // x co-ordinate exceeded the curve order, which together form the recovery id
+        BigInteger r;
+        BigInteger s;
+        int recId;
+        do {
+            BigInteger k;
+            do {
+                k = kCalculator.nextK();
+                ECPoint p = BASE_POINT_MULTIPLIER.multiply(Sign.CURVE.getG(), k).normalize();
+                BigInteger x = p.getAffineXCoord().toBigInteger();
+                r = x.mod(n);
+                recId = (p.getAffineYCoord().testBitZero() ? 1 : 0) | (x.compareTo(n) >= 0 ? 2 : 0);
+            } while (r.signum() == 0);
+            s = k.modInverse(n).multiply(e.add(privateKey.multiply(r))).mod(n);
+        } while (s.signum() == 0);
+
+        if (s.compareTo(Sign.HALF_CURVE_ORDER) > 0) {
+            // the canonical signature (r, n - s) is that of the point -R, whose y is mirrored
+            s = n.subtract(s);
+            recId ^= 1;
+        }
+
+        writePadded(r, output, offset);
+        writePadded(s, output, offset + 32);
+        output[offset + 64] = (byte) (recId + 27);
+    }
+
+    private static BigInteger calculateE(BigInteger n, byte[] message) {
+        int messageBitLength = message.length * 8;
+        BigInteger e = new BigInteger(1, message);
+        if (n.bitLength() < messageBitLength) {
+            e = e.shiftRight(messageBitLength - n.bitLength());
+        }
+        return e;
+    }
+
+    /** Write a positive value of at most 32 bytes, left padded with zeros. */
+    private static void writePadded(BigInteger value, byte[] output, int offset) {
+        byte[] bytes = value.toByteArray();
+        // skip the sign byte of values with their most significant bit set
+        int start = bytes.length > 32 ? bytes.length - 32 : 0;
+        int length = bytes.length - start;
+        Arrays.fill(output, offset, offset + 32 - length, (byte) 0);
+        System.arraycopy(bytes, start, output, offset + 32 - length, length);
+    }
+}
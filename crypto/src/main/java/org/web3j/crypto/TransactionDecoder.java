@@ -22,8 +22,11 @@ import org.web3j.utils.Numeric;
 public class TransactionDecoder {
 
     public static RawTransaction decode(final String hexTransaction) {
-        final byte[] transaction = Numeric.hexStringToByteArray(hexTransaction);
-        final RlpList rlpList = RlpDecoder.decode(transaction);
+        return decode(Numeric.hexStringToByteArray(hexTransaction));
+    }
+
+    public static RawTransaction decode(final byte[] transaction) {
+        final RlpList rlpList = RlpDecoder.decodeView(transaction);
         final RlpList values = (RlpList) rlpList.getValues().get(0);
         final BigInteger nonce = ((RlpString) values.getValues().get(0)).asPositiveBigInteger();
         final BigInteger gasPrice = ((RlpString) values.getValues().get(1)).asPositiveBigInteger();
@@ -33,9 +36,9 @@ public class TransactionDecoder {
         final String data = ((RlpString) values.getValues().get(5)).asString();
         if (values.getValues().size() == 6
                 || (values.getValues().size() == 8
-                        && ((RlpString) values.getValues().get(7)).getBytes().length == 10)
+                        && ((RlpString) values.getValues().get(7)).length() == 10)
                 || (values.getValues().size() == 9
-                        && ((RlpString) values.getValues().get(8)).getBytes().length == 10)) {
+                        && ((RlpString) values.getValues().get(8)).length() == 10)) {
             // the 8th or 9nth element is the hex
             // representation of "restricted" for private transactions
             return RawTransaction.createTransaction(nonce, gasPrice, gasLimit, to, value, data);
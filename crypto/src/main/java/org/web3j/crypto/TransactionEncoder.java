@@ -15,12 +15,15 @@ package org.web3j.crypto;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
-import org.web3j.rlp.RlpEncoder;
-import org.web3j.rlp.RlpList;
 import org.web3j.rlp.RlpString;
 import org.web3j.rlp.RlpType;
+import org.web3j.rlp.RlpWriter;
 import org.web3j.utils.Bytes;
 import org.web3j.utils.Numeric;
 
@@ -30,6 +33,9 @@ import org.web3j.utils.Numeric;
  */
 public class TransactionEncoder {
 
+    /** Maximum number of transactions signed by a single task in {@link #signAll}. */
+    public static final int SIGN_BATCH_THRESHOLD = 16;
+
     private static final int CHAIN_ID_INC = 35;
     private static final int LOWER_REAL_V = 27;
 
@@ -51,6 +57,134 @@ public class TransactionEncoder {
         return encode(rawTransaction, eip155SignatureData);
     }
 
+    /**
+     * Sign many transactions with the same credentials. Large batches are signed in parallel, see
+     * {@link #signAll(List, long, List, ForkJoinPool)}.
+     *
+     * @param rawTransactions transactions to sign
+     * @param chainId EIP-155 chain id
+     * @param credentials to sign with
+     * @return signed transactions, in the same order as rawTransactions
+     */
+    public static List<byte[]> signAll(
+            List<RawTransaction> rawTransactions, long chainId, Credentials credentials) {
+        return signAll(
+                rawTransactions, chainId, Collections.nCopies(rawTransactions.size(), credentials));
+    }
+
+    /**
+     * Sign each transaction with the credentials at the same position. Large batches are signed in
+     * parallel, see {@link #signAll(List, long, List, ForkJoinPool)}.
+     *
+     * @param rawTransactions transactions to sign
+     * @param chainId EIP-155 chain id
+     * @param credentials to sign each transaction with
+     * @return signed transactions, in the same order as rawTransactions
+     */
+    public static List<byte[]> signAll(
+            List<RawTransaction> rawTransactions, long chainId, List<Credentials> credentials) {
+        return signAll(rawTransactions, chainId, credentials, null);
+    }
+
+    /**
+     * Sign each transaction with the credentials at the same position.
+     *
+     * <p>Batches of more than {@link #SIGN_BATCH_THRESHOLD} transactions are split into fork-join
+     * tasks which run in the given pool, bounding the number of threads used. If no pool is given
+     * they run in the current fork-join pool, or the common pool if called from outside one.
+     *
+     * <p>Signatures are created by a {@link Signer}, they are the same as those of {@link
+     * #signMessage(RawTransaction, long, Credentials)}.
+     *
+     * @param rawTransactions transactions to sign
+     * @param chainId EIP-155 chain id
+     * @param credentials to sign each transaction with
+     * @param pool to sign in, or null
+     * @return signed transactions, in the same order as rawTransactions
+     */
+    public static List<byte[]> signAll(
+            List<RawTransaction> rawTransactions,
+            long chainId,
+            List<Credentials> credentials,
+            ForkJoinPool pool) {
+        if (credentials.size() != rawTransactions.size()) {
+            throw new IllegalArgumentException(
+                    "Expected "
+                            + rawTransactions.size()
+                            + " credentials, got "
+                            + credentials.size());
+        }
+
+        RawTransaction[] transactions = rawTransactions.toArray(new RawTransaction[0]);
+        Credentials[] signers = credentials.toArray(new Credentials[0]);
+        byte[][] outputs = new byte[transactions.length][];
+        if (transactions.length <= SIGN_BATCH_THRESHOLD) {
+            signRange(transactions, chainId, signers, outputs, 0, transactions.length);
+        } else {
+            SignBatchTask task =
+                    new SignBatchTask(
+                            transactions, chainId, signers, outputs, 0, transactions.length);
+            if (pool != null) {
+                pool.invoke(task);
+            } else {
+                task.invoke();
+            }
+        }
+        return Arrays.asList(outputs);
+    }
+
+    private static void signRange(
+            RawTransaction[] transactions,
+            long chainId,
+            Credentials[] credentials,
+            byte[][] outputs,
+            int from,
+            int to) {
+        for (int i = from; i < to; i++) {
+            RawTransaction rawTransaction = transactions[i];
+            Sign.SignatureData signatureData =
+                    Signer.create(credentials[i]).signMessage(encode(rawTransaction, chainId));
+            outputs[i] = encode(rawTransaction, createEip155SignatureData(signatureData, chainId));
+        }
+    }
+
+    private static class SignBatchTask extends RecursiveAction {
+        private final RawTransaction[] transactions;
+        private final long chainId;
+        private final Credentials[] credentials;
+        private final byte[][] outputs;
+        private final int from;
+        private final int to;
+
+        SignBatchTask(
+                RawTransaction[] transactions,
+                long chainId,
+                Credentials[] credentials,
+                byte[][] outputs,
+                int from,
+                int to) {
+            this.transactions = transactions;
+            this.chainId = chainId;
+            this.credentials = credentials;
+            this.outputs = outputs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SIGN_BATCH_THRESHOLD) {
+                signRange(transactions, chainId, credentials, outputs, from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new SignBatchTask(
+                                transactions, chainId, credentials, outputs, from, middle),
+                        new SignBatchTask(transactions, chainId, credentials, outputs, middle, to));
+            }
+        }
+    }
+
     @Deprecated
     public static byte[] signMessage(
             RawTransaction rawTransaction, byte chainId, Credentials credentials) {
@@ -88,10 +222,40 @@ public class TransactionEncoder {
         return encode(rawTransaction, (long) chainId);
     }
 
-    private static byte[] encode(RawTransaction rawTransaction, Sign.SignatureData signatureData) {
-        List<RlpType> values = asRlpValues(rawTransaction, signatureData);
-        RlpList rlpList = new RlpList(values);
-        return RlpEncoder.encode(rlpList);
+    static byte[] encode(RawTransaction rawTransaction, Sign.SignatureData signatureData) {
+        // equivalent to encoding asRlpValues, without building the intermediate RLP structure
+        RlpWriter writer = new RlpWriter();
+        writer.startList()
+                .writeBigInteger(rawTransaction.getNonce())
+                .writeBigInteger(rawTransaction.getGasPrice())
+                .writeBigInteger(rawTransaction.getGasLimit());
+
+        String to = rawTransaction.getTo();
+        if (to != null && to.length() > 0) {
+            writer.writeBytes(Numeric.hexStringToByteArray(to));
+        } else {
+            writer.writeBytes(new byte[] {});
+        }
+
+        writer.writeBigInteger(rawTransaction.getValue())
+                .writeBytes(Numeric.hexStringToByteArray(rawTransaction.getData()));
+
+        if (signatureData != null) {
+            writeTrimmed(writer, signatureData.getV());
+            writeTrimmed(writer, signatureData.getR());
+            writeTrimmed(writer, signatureData.getS());
+        }
+
+        return writer.endList().toByteArray();
+    }
+
+    /** Writes the value with leading zeroes removed, as {@link Bytes#trimLeadingZeroes} does. */
+    private static void writeTrimmed(RlpWriter writer, byte[] value) {
+        int offset = 0;
+        while (offset < value.length - 1 && value[offset] == 0) {
+            offset++;
+        }
+        writer.writeBytes(value, offset, value.length - offset);
     }
 
     private static byte[] longToBytes(long x) {
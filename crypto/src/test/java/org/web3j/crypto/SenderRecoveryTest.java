@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+import java.security.SignatureException;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SenderRecoveryTest {
+
+    private static final byte[] ADDRESS = Numeric.hexStringToByteArray(SampleKeys.ADDRESS);
+
+    @Test
+    public void testRecoverAddress() throws SignatureException {
+        for (int i = 0; i < 32; i++) {
+            byte[] messageHash = Hash.sha3(new byte[] {(byte) i});
+            Sign.SignatureData signatureData =
+                    Sign.signMessage(messageHash, SampleKeys.KEY_PAIR, false);
+
+            assertArrayEquals(SenderRecovery.recoverAddress(messageHash, signatureData), (ADDRESS));
+        }
+    }
+
+    @Test
+    public void testRecoverSender() throws SignatureException {
+        SenderRecovery recovery = new SenderRecovery();
+        for (long chainId : new long[] {1L, 1337L}) {
+            byte[] signedTransaction =
+                    TransactionEncoder.signMessage(
+                            createTransaction(chainId), chainId, SampleKeys.CREDENTIALS);
+            SignedRawTransaction transaction =
+                    (SignedRawTransaction)
+                            TransactionDecoder.decode(Numeric.toHexString(signedTransaction));
+
+            assertArrayEquals(recovery.recoverSender(signedTransaction), (ADDRESS));
+            assertArrayEquals(recovery.recoverSender(transaction), (ADDRESS));
+            assertEquals(transaction.getFrom(), (SampleKeys.ADDRESS));
+        }
+
+        byte[] unprotected =
+                TransactionEncoder.signMessage(createTransaction(0), SampleKeys.CREDENTIALS);
+        assertArrayEquals(recovery.recoverSender(unprotected), (ADDRESS));
+        assertArrayEquals(new SenderRecovery(0).recoverSender(unprotected), (ADDRESS));
+    }
+
+    @Test
+    public void testRecoverSenderCached() throws SignatureException {
+        SenderRecovery recovery = new SenderRecovery(2);
+        byte[][] signedTransactions = new byte[3][];
+        for (int i = 0; i < signedTransactions.length; i++) {
+            signedTransactions[i] =
+                    TransactionEncoder.signMessage(
+                            createTransaction(i), 1L, SampleKeys.CREDENTIALS);
+        }
+
+        for (int round = 0; round < 2; round++) {
+            for (byte[] signedTransaction : signedTransactions) {
+                byte[] sender = recovery.recoverSender(signedTransaction);
+                assertArrayEquals(sender, (ADDRESS));
+                // callers cannot modify cached senders
+                sender[0] ^= 1;
+            }
+        }
+        SignedRawTransaction transaction =
+                (SignedRawTransaction)
+                        TransactionDecoder.decode(Numeric.toHexString(signedTransactions[2]));
+        assertArrayEquals(recovery.recoverSender(transaction), (ADDRESS));
+    }
+
+    @Test
+    public void testInvalidSignature() {
+        byte[] messageHash = Hash.sha3(new byte[] {1});
+        Sign.SignatureData signatureData =
+                Sign.signMessage(messageHash, SampleKeys.KEY_PAIR, false);
+
+        assertThrows(
+                SignatureException.class,
+                () ->
+                        SenderRecovery.recoverAddress(
+                                messageHash,
+                                new Sign.SignatureData(
+                                        (byte) 26, signatureData.getR(), signatureData.getS())));
+        assertThrows(
+                SignatureException.class,
+                () ->
+                        SenderRecovery.recoverAddress(
+                                messageHash,
+                                new Sign.SignatureData(
+                                        signatureData.getV(), new byte[32], signatureData.getS())));
+        assertThrows(
+                SignatureException.class,
+                () ->
+                        new SenderRecovery()
+                                .recoverSender(TransactionEncoder.encode(createTransaction(0))));
+    }
+
+    private static RawTransaction createTransaction(long nonce) {
+        return RawTransaction.createEtherTransaction(
+                BigInteger.valueOf(nonce),
+                BigInteger.valueOf(20000000000L),
+                BigInteger.valueOf(21000),
+                "0x3535353535353535353535353535353535353535",
+                BigInteger.valueOf(1000000000000000000L));
+    }
+}
@@ -14,6 +14,10 @@ package org.web3j.crypto;
 
 import java.math.BigInteger;
 import java.security.SignatureException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 import org.spongycastle.math.ec.ECPoint;
@@ -21,6 +25,7 @@ import org.spongycastle.math.ec.ECPoint;
 import org.web3j.utils.Numeric;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SignTest {
@@ -67,6 +72,55 @@ public class SignTest {
                                 new Sign.SignatureData((byte) 27, new byte[] {1}, new byte[] {0})));
     }
 
+    @Test
+    public void testRecoverAll() throws SignatureException {
+        List<byte[]> hashes = new ArrayList<>();
+        List<Sign.SignatureData> signatures = new ArrayList<>();
+        for (int i = 0; i < 2 * Sign.RECOVER_BATCH_THRESHOLD + 10; i++) {
+            ECKeyPair keyPair = ECKeyPair.create(BigInteger.valueOf(i % 7 + 1));
+            byte[] hash = Hash.sha3(BigInteger.valueOf(i).toByteArray());
+            hashes.add(hash);
+            signatures.add(Sign.signMessage(hash, keyPair, false));
+        }
+        int valid = hashes.size();
+        Sign.SignatureData signatureData = signatures.get(0);
+        hashes.add(Hash.sha3(TEST_MESSAGE));
+        signatures.add(new Sign.SignatureData((byte) 27, new byte[32], new byte[32]));
+        hashes.add(hashes.get(0));
+        signatures.add(
+                new Sign.SignatureData(new byte[0], signatureData.getR(), signatureData.getS()));
+        hashes.add(hashes.get(0));
+        signatures.add(new Sign.SignatureData(null, signatureData.getR(), signatureData.getS()));
+
+        List<BigInteger> keys = Sign.recoverAll(hashes, signatures);
+
+        assertEquals(hashes.size(), keys.size());
+        for (int i = 0; i < valid; i++) {
+            assertEquals(
+                    Sign.signedMessageHashToKey(hashes.get(i), signatures.get(i)), keys.get(i));
+        }
+        for (int i = valid; i < hashes.size(); i++) {
+            assertNull(keys.get(i));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertEquals(keys, Sign.recoverAll(hashes, signatures, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testRecoverAllSizeMismatch() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        Sign.recoverAll(
+                                Collections.singletonList(Hash.sha3(TEST_MESSAGE)),
+                                Collections.emptyList()));
+    }
+
     @Test
     public void testPublicKeyFromPrivatePoint() {
         ECPoint point = Sign.publicPointFromPrivate(SampleKeys.PRIVATE_KEY);
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.security.SignatureException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SignerTest {
+
+    private static final byte[] TEST_MESSAGE = "A test message".getBytes();
+
+    private final Signer signer = Signer.create(SampleKeys.CREDENTIALS);
+
+    @Test
+    public void testSignMessage() {
+        assertEquals(
+                signer.signMessage(TEST_MESSAGE),
+                (Sign.signMessage(TEST_MESSAGE, SampleKeys.KEY_PAIR)));
+
+        Sign.SignatureData expected =
+                new Sign.SignatureData(
+                        (byte) 28,
+                        Numeric.hexStringToByteArray(
+                                "0x0464eee9e2fe1a10ffe48c78b80de1ed8dcf996f3f60955cb2e03cb21903d930"),
+                        Numeric.hexStringToByteArray(
+                                "0x06624da478b3f862582e85b31c6a21c6cae2eee2bd50f55c93c4faad9d9c8d7f"));
+        assertEquals(signer.signHash(Sign.getEthereumMessageHash(TEST_MESSAGE)), (expected));
+    }
+
+    @Test
+    public void testRecoveryIdMatchesTrialRecovery() throws SignatureException {
+        boolean[] seen = new boolean[2];
+        for (int i = 0; i < 64; i++) {
+            byte[] messageHash = Hash.sha3(new byte[] {(byte) i});
+            Sign.SignatureData signatureData = signer.signHash(messageHash);
+
+            assertEquals(
+                    signatureData, (Sign.signMessage(messageHash, SampleKeys.KEY_PAIR, false)));
+            assertEquals(
+                    Sign.signedMessageHashToKey(messageHash, signatureData),
+                    (SampleKeys.PUBLIC_KEY));
+            seen[signatureData.getV()[0] - 27] = true;
+        }
+        assertTrue(seen[0] && seen[1]);
+    }
+
+    @Test
+    public void testSignHashToArray() {
+        byte[] messageHash = Hash.sha3(TEST_MESSAGE);
+        byte[] output = new byte[2 + Signer.SIGNATURE_LENGTH];
+        output[0] = 1;
+        output[1] = 2;
+
+        signer.signHash(messageHash, output, 2);
+
+        Sign.SignatureData expected = Sign.signMessage(messageHash, SampleKeys.KEY_PAIR, false);
+        assertEquals(output[0], (1));
+        assertEquals(output[1], (2));
+        assertArrayEquals(Arrays.copyOfRange(output, 2, 34), (expected.getR()));
+        assertArrayEquals(Arrays.copyOfRange(output, 34, 66), (expected.getS()));
+        assertEquals(output[66], (expected.getV()[0]));
+    }
+}
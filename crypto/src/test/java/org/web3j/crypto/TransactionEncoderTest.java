@@ -13,16 +13,21 @@
 package org.web3j.crypto;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 
+import org.web3j.rlp.RlpEncoder;
+import org.web3j.rlp.RlpList;
 import org.web3j.rlp.RlpString;
 import org.web3j.rlp.RlpType;
 import org.web3j.utils.Numeric;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SuppressWarnings("deprecation")
 public class TransactionEncoderTest {
@@ -83,6 +88,89 @@ public class TransactionEncoderTest {
                                 + "5c9f3dc64214b297fb1966a3b6d83")));
     }
 
+    @Test
+    public void testEncodeMatchesRlpValues() {
+        Sign.SignatureData signatureData =
+                new Sign.SignatureData((byte) 27, new byte[] {0, 0, 1}, new byte[32]);
+
+        assertArrayEquals(
+                TransactionEncoder.encode(createContractTransaction()),
+                RlpEncoder.encode(
+                        new RlpList(
+                                TransactionEncoder.asRlpValues(
+                                        createContractTransaction(), null))));
+        assertArrayEquals(
+                TransactionEncoder.encode(createEip155RawTransaction(), 1L),
+                RlpEncoder.encode(
+                        new RlpList(
+                                TransactionEncoder.asRlpValues(
+                                        createEip155RawTransaction(),
+                                        new Sign.SignatureData(
+                                                new byte[] {0, 0, 0, 0, 0, 0, 0, 1},
+                                                new byte[] {},
+                                                new byte[] {})))));
+        assertArrayEquals(
+                TransactionEncoder.encode(createEtherTransaction(), signatureData),
+                RlpEncoder.encode(
+                        new RlpList(
+                                TransactionEncoder.asRlpValues(
+                                        createEtherTransaction(), signatureData))));
+    }
+
+    @Test
+    public void testSignAll() {
+        List<RawTransaction> rawTransactions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rawTransactions.add(
+                    RawTransaction.createEtherTransaction(
+                            BigInteger.valueOf(i),
+                            BigInteger.valueOf(20000000000L),
+                            BigInteger.valueOf(21000),
+                            "0x3535353535353535353535353535353535353535",
+                            BigInteger.valueOf(i * 1000L)));
+        }
+
+        List<byte[]> signed =
+                TransactionEncoder.signAll(rawTransactions, 1L, SampleKeys.CREDENTIALS);
+
+        assertEquals(signed.size(), (rawTransactions.size()));
+        for (int i = 0; i < rawTransactions.size(); i++) {
+            assertArrayEquals(
+                    signed.get(i),
+                    (TransactionEncoder.signMessage(
+                            rawTransactions.get(i), 1L, SampleKeys.CREDENTIALS)));
+        }
+    }
+
+    @Test
+    public void testSignAllWithManyCredentials() {
+        List<RawTransaction> rawTransactions = new ArrayList<>();
+        List<Credentials> credentials = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            rawTransactions.add(createEip155RawTransaction());
+            credentials.add(Credentials.create(ECKeyPair.create(BigInteger.valueOf(i + 1))));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            List<byte[]> signed =
+                    TransactionEncoder.signAll(rawTransactions, 1L, credentials, pool);
+
+            for (int i = 0; i < rawTransactions.size(); i++) {
+                assertArrayEquals(
+                        signed.get(i),
+                        (TransactionEncoder.signMessage(
+                                rawTransactions.get(i), 1L, credentials.get(i))));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> TransactionEncoder.signAll(rawTransactions, 1L, credentials.subList(0, 1)));
+    }
+
     private static RawTransaction createEtherTransaction() {
         return RawTransaction.createEtherTransaction(
                 BigInteger.ZERO,
@@ -13,6 +13,7 @@
 package org.web3j.rlp;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Recursive Length Prefix (RLP) decoder.
@@ -54,128 +55,226 @@ public class RlpDecoder {
      */
     public static int OFFSET_LONG_LIST = 0xf7;
 
+    /** Default maximum nesting depth of lists accepted by the decoder. */
+    public static final int DEFAULT_MAX_DEPTH = 1024;
+
     /**
      * Parse wire byte[] message into RLP elements.
      *
      * @param rlpEncoded - RLP encoded byte-array
      * @return recursive RLP structure
+     * @throws RlpDecodingException if the encoding is malformed
      */
     public static RlpList decode(byte[] rlpEncoded) {
-        RlpList rlpList = new RlpList(new ArrayList<>());
-        traverse(rlpEncoded, 0, rlpEncoded.length, rlpList);
-        return rlpList;
+        return decode(rlpEncoded, DEFAULT_MAX_DEPTH, Integer.MAX_VALUE);
     }
 
-    private static void traverse(byte[] data, int startPos, int endPos, RlpList rlpList) {
-
-        try {
-            if (data == null || data.length == 0) {
-                return;
-            }
+    /**
+     * Parse wire byte[] message into RLP elements, rejecting encodings that exceed the provided
+     * limits. Use this variant for encodings received from untrusted sources.
+     *
+     * @param rlpEncoded - RLP encoded byte-array
+     * @param maxDepth - maximum nesting depth of lists
+     * @param maxItemSize - maximum length in bytes of the payload of a single string or list
+     * @return recursive RLP structure
+     * @throws RlpDecodingException if the encoding is malformed or exceeds the limits
+     */
+    public static RlpList decode(byte[] rlpEncoded, int maxDepth, int maxItemSize) {
+        return traverse(rlpEncoded, maxDepth, maxItemSize, true);
+    }
 
-            while (startPos < endPos) {
+    /**
+     * Parse wire byte[] message into RLP elements without copying string items. Each {@link
+     * RlpString} in the result is a view over the provided array, and its bytes are only copied out
+     * if {@link RlpString#getBytes()} is called. The array must not be modified while the result is
+     * in use.
+     *
+     * @param rlpEncoded - RLP encoded byte-array
+     * @return recursive RLP structure
+     * @throws RlpDecodingException if the encoding is malformed
+     */
+    public static RlpList decodeView(byte[] rlpEncoded) {
+        return decodeView(rlpEncoded, DEFAULT_MAX_DEPTH, Integer.MAX_VALUE);
+    }
 
-                int prefix = data[startPos] & 0xff;
+    /**
+     * As {@link #decodeView(byte[])}, rejecting encodings that exceed the provided limits.
+     *
+     * @param rlpEncoded - RLP encoded byte-array
+     * @param maxDepth - maximum nesting depth of lists
+     * @param maxItemSize - maximum length in bytes of the payload of a single string or list
+     * @return recursive RLP structure
+     * @throws RlpDecodingException if the encoding is malformed or exceeds the limits
+     */
+    public static RlpList decodeView(byte[] rlpEncoded, int maxDepth, int maxItemSize) {
+        return traverse(rlpEncoded, maxDepth, maxItemSize, false);
+    }
 
-                if (prefix < OFFSET_SHORT_STRING) {
+    private static RlpString string(byte[] data, int offset, int length, boolean copy) {
+        if (copy) {
+            byte[] rlpData = new byte[length];
+            System.arraycopy(data, offset, rlpData, 0, length);
+            return RlpString.create(rlpData);
+        } else {
+            return RlpString.wrap(data, offset, length);
+        }
+    }
 
-                    // 1. the data is a string if the range of the
-                    // first byte(i.e. prefix) is [0x00, 0x7f],
-                    // and the string is the first byte itself exactly;
+    /**
+     * Decodes all items in the provided data. Rather than recursing for each nested list, the
+     * enclosing lists and their end positions are kept on an explicit stack, so the nesting depth
+     * is bounded by maxDepth rather than the size of the thread stack.
+     *
+     * <p>Every length prefix is checked against the end of the enclosing list before the item is
+     * read, so no item can extend past the input and no allocation exceeds the input size.
+     */
+    private static RlpList traverse(byte[] data, int maxDepth, int maxItemSize, boolean copy) {
+        RlpList result = new RlpList(new ArrayList<>());
 
-                    byte[] rlpData = {(byte) prefix};
-                    rlpList.getValues().add(RlpString.create(rlpData));
-                    startPos += 1;
+        RlpList[] lists = new RlpList[8];
+        int[] listEnds = new int[8];
+        int depth = 0;
 
-                } else if (prefix == OFFSET_SHORT_STRING) {
+        RlpList current = result;
+        int endPos = data.length;
+        int startPos = 0;
 
-                    // null
-                    rlpList.getValues().add(RlpString.create(new byte[0]));
-                    startPos += 1;
+        while (true) {
+            if (startPos == endPos) {
+                if (depth == 0) {
+                    return result;
+                }
+                depth--;
+                current = lists[depth];
+                endPos = listEnds[depth];
+                lists[depth] = null;
+                continue;
+            }
 
-                } else if (prefix > OFFSET_SHORT_STRING && prefix <= OFFSET_LONG_STRING) {
+            int prefix = data[startPos] & 0xff;
 
-                    // 2. the data is a string if the range of the
-                    // first byte is [0x80, 0xb7], and the string
-                    // which length is equal to the first byte minus 0x80
-                    // follows the first byte;
+            if (prefix < OFFSET_SHORT_STRING) {
 
-                    byte strLen = (byte) (prefix - OFFSET_SHORT_STRING);
+                // 1. the data is a string if the range of the
+                // first byte(i.e. prefix) is [0x00, 0x7f],
+                // and the string is the first byte itself exactly;
 
-                    byte[] rlpData = new byte[strLen];
-                    System.arraycopy(data, startPos + 1, rlpData, 0, strLen);
+                current.getValues().add(string(data, startPos, 1, copy));
+                startPos += 1;
+                continue;
+            }
 
-                    rlpList.getValues().add(RlpString.create(rlpData));
-                    startPos += 1 + strLen;
+            boolean isList;
+            int lengthOfLength;
+            int payloadLength;
 
-                } else if (prefix > OFFSET_LONG_STRING && prefix < OFFSET_SHORT_LIST) {
+            if (prefix <= OFFSET_LONG_STRING) {
 
-                    // 3. the data is a string if the range of the
-                    // first byte is [0xb8, 0xbf], and the length of the
-                    // string which length in bytes is equal to the
-                    // first byte minus 0xb7 follows the first byte,
-                    // and the string follows the length of the string;
+                // 2. the data is a string if the range of the
+                // first byte is [0x80, 0xb7], and the string
+                // which length is equal to the first byte minus 0x80
+                // follows the first byte;
 
-                    byte lenOfStrLen = (byte) (prefix - OFFSET_LONG_STRING);
-                    int strLen = calcLength(lenOfStrLen, data, startPos);
+                isList = false;
+                lengthOfLength = 0;
+                payloadLength = prefix - OFFSET_SHORT_STRING;
 
-                    // now we can parse an item for data[1]..data[length]
-                    byte[] rlpData = new byte[strLen];
-                    System.arraycopy(data, startPos + lenOfStrLen + 1, rlpData, 0, strLen);
+            } else if (prefix < OFFSET_SHORT_LIST) {
 
-                    rlpList.getValues().add(RlpString.create(rlpData));
-                    startPos += lenOfStrLen + strLen + 1;
+                // 3. the data is a string if the range of the
+                // first byte is [0xb8, 0xbf], and the length of the
+                // string which length in bytes is equal to the
+                // first byte minus 0xb7 follows the first byte,
+                // and the string follows the length of the string;
 
-                } else if (prefix >= OFFSET_SHORT_LIST && prefix <= OFFSET_LONG_LIST) {
+                isList = false;
+                lengthOfLength = prefix - OFFSET_LONG_STRING;
+                payloadLength = calcLength(lengthOfLength, data, startPos, endPos);
 
-                    // 4. the data is a list if the range of the
-                    // first byte is [0xc0, 0xf7], and the concatenation of
-                    // the RLP encodings of all items of the list which the
-                    // total payload is equal to the first byte minus 0xc0 follows the first byte;
+            } else if (prefix <= OFFSET_LONG_LIST) {
 
-                    byte listLen = (byte) (prefix - OFFSET_SHORT_LIST);
+                // 4. the data is a list if the range of the
+                // first byte is [0xc0, 0xf7], and the concatenation of
+                // the RLP encodings of all items of the list which the
+                // total payload is equal to the first byte minus 0xc0 follows the first byte;
 
-                    RlpList newLevelList = new RlpList(new ArrayList<>());
-                    traverse(data, startPos + 1, startPos + listLen + 1, newLevelList);
-                    rlpList.getValues().add(newLevelList);
+                isList = true;
+                lengthOfLength = 0;
+                payloadLength = prefix - OFFSET_SHORT_LIST;
 
-                    startPos += 1 + listLen;
+            } else {
 
-                } else if (prefix > OFFSET_LONG_LIST) {
+                // 5. the data is a list if the range of the
+                // first byte is [0xf8, 0xff], and the total payload of the
+                // list which length is equal to the
+                // first byte minus 0xf7 follows the first byte,
+                // and the concatenation of the RLP encodings of all items of
+                // the list follows the total payload of the list;
 
-                    // 5. the data is a list if the range of the
-                    // first byte is [0xf8, 0xff], and the total payload of the
-                    // list which length is equal to the
-                    // first byte minus 0xf7 follows the first byte,
-                    // and the concatenation of the RLP encodings of all items of
-                    // the list follows the total payload of the list;
+                isList = true;
+                lengthOfLength = prefix - OFFSET_LONG_LIST;
+                payloadLength = calcLength(lengthOfLength, data, startPos, endPos);
+            }
 
-                    byte lenOfListLen = (byte) (prefix - OFFSET_LONG_LIST);
-                    int listLen = calcLength(lenOfListLen, data, startPos);
+            if (payloadLength > maxItemSize) {
+                throw new RlpDecodingException(
+                        "RLP item of "
+                                + payloadLength
+                                + " bytes at position "
+                                + startPos
+                                + " exceeds maximum of "
+                                + maxItemSize);
+            }
 
-                    RlpList newLevelList = new RlpList(new ArrayList<>());
-                    traverse(
-                            data,
-                            startPos + lenOfListLen + 1,
-                            startPos + lenOfListLen + listLen + 1,
-                            newLevelList);
-                    rlpList.getValues().add(newLevelList);
+            int payloadStart = startPos + 1 + lengthOfLength;
+            if (payloadLength > endPos - payloadStart) {
+                throw new RlpDecodingException(
+                        "RLP item of "
+                                + payloadLength
+                                + " bytes at position "
+                                + startPos
+                                + " exceeds the enclosing data");
+            }
 
-                    startPos += lenOfListLen + listLen + 1;
+            if (isList) {
+                if (depth == maxDepth) {
+                    throw new RlpDecodingException(
+                            "RLP lists nested deeper than maximum of " + maxDepth);
                 }
+                if (depth == lists.length) {
+                    lists = Arrays.copyOf(lists, depth * 2);
+                    listEnds = Arrays.copyOf(listEnds, depth * 2);
+                }
+
+                RlpList newLevelList = new RlpList(new ArrayList<>());
+                current.getValues().add(newLevelList);
+
+                lists[depth] = current;
+                listEnds[depth] = endPos;
+                depth++;
+
+                current = newLevelList;
+                endPos = payloadStart + payloadLength;
+            } else {
+                current.getValues().add(string(data, payloadStart, payloadLength, copy));
             }
-        } catch (Exception e) {
-            throw new RuntimeException("RLP wrong encoding", e);
+            startPos = payloadStart + (isList ? 0 : payloadLength);
         }
     }
 
-    private static int calcLength(int lengthOfLength, byte[] data, int pos) {
-        byte pow = (byte) (lengthOfLength - 1);
-        int length = 0;
+    private static int calcLength(int lengthOfLength, byte[] data, int pos, int endPos) {
+        if (lengthOfLength > endPos - pos - 1) {
+            throw new RlpDecodingException(
+                    "RLP length prefix at position " + pos + " exceeds the enclosing data");
+        }
+        long length = 0;
         for (int i = 1; i <= lengthOfLength; ++i) {
-            length += (data[pos + i] & 0xff) << (8 * pow);
-            pow--;
+            length = (length << 8) | (data[pos + i] & 0xff);
+            if (length > Integer.MAX_VALUE) {
+                throw new RlpDecodingException(
+                        "RLP length at position " + pos + " exceeds maximum supported length");
+            }
         }
-        return length;
+        return (int) length;
     }
 }
@@ -12,9 +12,14 @@
  */
 package org.web3j.rlp;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.List;
 
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_LIST;
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_STRING;
 import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_LIST;
 import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_STRING;
 
@@ -23,81 +28,193 @@ import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_STRING;
  *
  * <p>For the specification, refer to p16 of the <a href="http://gavwood.com/paper.pdf">yellow
  * paper</a> and <a href="https://github.com/ethereum/wiki/wiki/RLP">here</a>.
+ *
+ * <p>Encoding is performed in two passes: the first computes the encoded length of every list in
+ * the tree, the second writes the prefixes and payloads into a single, exactly sized output.
  */
 public class RlpEncoder {
 
+    private static final int SHORT_LENGTH_LIMIT = 55;
+
     public static byte[] encode(RlpType value) {
+        ListLengths listLengths = new ListLengths();
+        byte[] result = new byte[measure(value, listLengths)];
+        write(value, ByteBuffer.wrap(result), listLengths);
+        return result;
+    }
+
+    /**
+     * Encode the provided value into the buffer, starting at its current position.
+     *
+     * @param value to encode
+     * @param buffer to write the encoding to
+     * @return the number of bytes written
+     * @throws BufferOverflowException if the buffer does not have sufficient space remaining
+     */
+    public static int encode(RlpType value, ByteBuffer buffer) {
+        ListLengths listLengths = new ListLengths();
+        int length = measure(value, listLengths);
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        write(value, buffer, listLengths);
+        return length;
+    }
+
+    /**
+     * Encode the provided value into the output stream.
+     *
+     * @param value to encode
+     * @param outputStream to write the encoding to
+     * @return the number of bytes written
+     * @throws IOException if the encoding cannot be written to the stream
+     */
+    public static int encode(RlpType value, OutputStream outputStream) throws IOException {
+        byte[] encoded = encode(value);
+        outputStream.write(encoded);
+        return encoded.length;
+    }
+
+    /**
+     * Calculate the number of bytes the RLP encoding of the provided value will occupy.
+     *
+     * @param value to measure
+     * @return encoded length in bytes
+     */
+    public static int encodedLength(RlpType value) {
+        return measure(value, new ListLengths());
+    }
+
+    private static int measure(RlpType value, ListLengths listLengths) {
         if (value instanceof RlpString) {
-            return encodeString((RlpString) value);
+            RlpString string = (RlpString) value;
+            if (string.source() == null) {
+                return encodedLongLength(string.numericValue());
+            }
+            return encodedStringLength(string.source(), string.offset(), string.length());
         } else {
-            return encodeList((RlpList) value);
+            int index = listLengths.reserve();
+            int payloadLength = 0;
+            for (RlpType entry : ((RlpList) value).getValues()) {
+                payloadLength += measure(entry, listLengths);
+            }
+            listLengths.set(index, payloadLength);
+            return prefixLength(payloadLength) + payloadLength;
         }
     }
 
-    private static byte[] encode(byte[] bytesValue, int offset) {
-        if (bytesValue.length == 1
-                && offset == OFFSET_SHORT_STRING
-                && bytesValue[0] >= (byte) 0x00
-                && bytesValue[0] <= (byte) 0x7f) {
-            return bytesValue;
-        } else if (bytesValue.length <= 55) {
-            byte[] result = new byte[bytesValue.length + 1];
-            result[0] = (byte) (offset + bytesValue.length);
-            System.arraycopy(bytesValue, 0, result, 1, bytesValue.length);
-            return result;
+    private static void write(RlpType value, ByteBuffer buffer, ListLengths listLengths) {
+        if (value instanceof RlpString) {
+            RlpString string = (RlpString) value;
+            if (string.source() == null) {
+                writeLong(string.numericValue(), buffer);
+            } else {
+                writeString(string.source(), string.offset(), string.length(), buffer);
+            }
         } else {
-            byte[] encodedStringLength = toMinimalByteArray(bytesValue.length);
-            byte[] result = new byte[bytesValue.length + encodedStringLength.length + 1];
-
-            result[0] = (byte) ((offset + 0x37) + encodedStringLength.length);
-            System.arraycopy(encodedStringLength, 0, result, 1, encodedStringLength.length);
-            System.arraycopy(
-                    bytesValue, 0, result, encodedStringLength.length + 1, bytesValue.length);
-            return result;
+            writePrefix(listLengths.next(), OFFSET_SHORT_LIST, buffer);
+            for (RlpType entry : ((RlpList) value).getValues()) {
+                write(entry, buffer, listLengths);
+            }
+        }
+    }
+
+    static int encodedStringLength(byte[] bytesValue, int offset, int length) {
+        if (isSingleByte(bytesValue, offset, length)) {
+            return 1;
         }
+        return prefixLength(length) + length;
     }
 
-    static byte[] encodeString(RlpString value) {
-        return encode(value.getBytes(), OFFSET_SHORT_STRING);
+    static void writeString(byte[] bytesValue, int offset, int length, ByteBuffer buffer) {
+        if (!isSingleByte(bytesValue, offset, length)) {
+            writePrefix(length, OFFSET_SHORT_STRING, buffer);
+        }
+        buffer.put(bytesValue, offset, length);
     }
 
-    private static byte[] toMinimalByteArray(int value) {
-        byte[] encoded = toByteArray(value);
+    /** Encoded length of a positive integer, which is written without any leading zero bytes. */
+    static int encodedLongLength(long value) {
+        if (value < OFFSET_SHORT_STRING) {
+            return 1;
+        }
+        return 1 + minimalByteLength(value);
+    }
 
-        for (int i = 0; i < encoded.length; i++) {
-            if (encoded[i] != 0) {
-                return Arrays.copyOfRange(encoded, i, encoded.length);
+    static void writeLong(long value, ByteBuffer buffer) {
+        if (value < OFFSET_SHORT_STRING) {
+            buffer.put((byte) value);
+        } else {
+            int length = minimalByteLength(value);
+            buffer.put((byte) (OFFSET_SHORT_STRING + length));
+            for (int shift = (length - 1) * 8; shift >= 0; shift -= 8) {
+                buffer.put((byte) (value >>> shift));
             }
         }
+    }
 
-        return new byte[] {};
+    private static boolean isSingleByte(byte[] bytesValue, int offset, int length) {
+        return length == 1 && bytesValue[offset] >= (byte) 0x00;
     }
 
-    private static byte[] toByteArray(int value) {
-        return new byte[] {
-            (byte) ((value >> 24) & 0xff),
-            (byte) ((value >> 16) & 0xff),
-            (byte) ((value >> 8) & 0xff),
-            (byte) (value & 0xff)
-        };
+    /**
+     * Number of bytes required for the prefix of a string or list with the given payload length.
+     */
+    static int prefixLength(int payloadLength) {
+        if (payloadLength <= SHORT_LENGTH_LIMIT) {
+            return 1;
+        }
+        return 1 + minimalByteLength(payloadLength);
     }
 
-    static byte[] encodeList(RlpList value) {
-        List<RlpType> values = value.getValues();
-        if (values.isEmpty()) {
-            return encode(new byte[] {}, OFFSET_SHORT_LIST);
+    /**
+     * Write the prefix of a string or list item.
+     *
+     * @param payloadLength length of the item payload
+     * @param offset either {@link RlpDecoder#OFFSET_SHORT_STRING} or {@link
+     *     RlpDecoder#OFFSET_SHORT_LIST}
+     * @param buffer to write to
+     */
+    static void writePrefix(int payloadLength, int offset, ByteBuffer buffer) {
+        if (payloadLength <= SHORT_LENGTH_LIMIT) {
+            buffer.put((byte) (offset + payloadLength));
         } else {
-            byte[] result = new byte[0];
-            for (RlpType entry : values) {
-                result = concat(result, encode(entry));
+            int lengthOfLength = minimalByteLength(payloadLength);
+            int longOffset = offset == OFFSET_SHORT_LIST ? OFFSET_LONG_LIST : OFFSET_LONG_STRING;
+            buffer.put((byte) (longOffset + lengthOfLength));
+            for (int shift = (lengthOfLength - 1) * 8; shift >= 0; shift -= 8) {
+                buffer.put((byte) (payloadLength >>> shift));
             }
-            return encode(result, OFFSET_SHORT_LIST);
         }
     }
 
-    private static byte[] concat(byte[] b1, byte[] b2) {
-        byte[] result = Arrays.copyOf(b1, b1.length + b2.length);
-        System.arraycopy(b2, 0, result, b1.length, b2.length);
-        return result;
+    /** Number of bytes in the big-endian representation of a positive value. */
+    static int minimalByteLength(long value) {
+        return (Long.SIZE - Long.numberOfLeadingZeros(value) + 7) / Byte.SIZE;
+    }
+
+    /**
+     * Payload lengths of the lists in an {@link RlpType} tree, recorded in the order the lists are
+     * visited so the writing pass can consume them sequentially.
+     */
+    private static final class ListLengths {
+        private int[] lengths = new int[8];
+        private int size;
+        private int position;
+
+        int reserve() {
+            if (size == lengths.length) {
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            return size++;
+        }
+
+        void set(int index, int length) {
+            lengths[index] = length;
+        }
+
+        int next() {
+            return lengths[position++];
+        }
     }
 }
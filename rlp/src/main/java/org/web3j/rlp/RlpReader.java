@@ -0,0 +1,543 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.web3j.utils.Numeric;
+
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_LIST;
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_STRING;
+import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_LIST;
+import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_STRING;
+
+/**
+ * Pull-style Recursive Length Prefix (RLP) reader.
+ *
+ * <p>Unlike {@link RlpDecoder}, which builds the complete {@link RlpList} structure up front, the
+ * reader walks the encoding item by item, so callers can pick out the fields they need and skip
+ * over the rest without any intermediate objects:
+ *
+ * <pre>
+ * RlpReader reader = new RlpReader(encodedTransaction);
+ * reader.enterList();
+ * long nonce = reader.readLong();
+ * reader.skip(); // gas price
+ * reader.skip(); // gas limit
+ * String to = reader.readAddress();
+ * </pre>
+ *
+ * <p>Strings read from a <code>byte[]</code> or array-backed {@link ByteBuffer} are returned as
+ * views over the underlying array, see {@link RlpString#wrap(byte[], int, int)}.
+ *
+ * <p>Instances are not thread safe.
+ */
+public class RlpReader {
+
+    private static final int ADDRESS_LENGTH = 20;
+
+    private final Input input;
+
+    private long position;
+    private long[] listEnds = new long[8];
+    private int depth;
+
+    private boolean headerRead;
+    private long headerStart;
+    private boolean headerIsList;
+    private int payloadLength;
+
+    public RlpReader(byte[] rlpEncoded) {
+        this(ByteBuffer.wrap(rlpEncoded));
+    }
+
+    public RlpReader(byte[] rlpEncoded, int offset, int length) {
+        this(ByteBuffer.wrap(rlpEncoded, offset, length));
+    }
+
+    /**
+     * Create a reader over the remaining bytes of the buffer. The position of the provided buffer
+     * is not modified.
+     *
+     * @param buffer containing the RLP encoding
+     */
+    public RlpReader(ByteBuffer buffer) {
+        this.input = new BufferInput(buffer.slice());
+    }
+
+    /**
+     * Create a reader that consumes the stream as items are read. Any {@link IOException} thrown by
+     * the stream is rethrown as an {@link UncheckedIOException}.
+     *
+     * @param inputStream containing the RLP encoding
+     */
+    public RlpReader(InputStream inputStream) {
+        this.input = new StreamInput(inputStream);
+    }
+
+    /**
+     * Check whether there are further items in the current list, or in the input if no list has
+     * been entered.
+     *
+     * @return true if another item can be read
+     */
+    public boolean hasNext() {
+        if (headerRead) {
+            return true;
+        }
+        if (depth > 0) {
+            return position < listEnds[depth - 1];
+        }
+        return input.hasMore();
+    }
+
+    /**
+     * Number of bytes remaining in the current list, or in the input if no list has been entered.
+     *
+     * @return remaining bytes, or -1 if reading from a stream outside of any list
+     */
+    public long remaining() {
+        // a header that has been peeked at has not been read as far as the caller is concerned
+        long current = headerRead ? headerStart : position;
+        if (depth > 0) {
+            return listEnds[depth - 1] - current;
+        }
+        long remaining = input.remaining();
+        return remaining < 0 ? remaining : remaining + (position - current);
+    }
+
+    /**
+     * Current nesting depth, that is the number of lists entered and not yet exited.
+     *
+     * @return nesting depth
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /** Check whether the next item is a list. */
+    public boolean isList() {
+        readHeader();
+        return headerIsList;
+    }
+
+    /** Check whether the next item is a string. */
+    public boolean isString() {
+        return !isList();
+    }
+
+    /**
+     * Enter the next item, which must be a list. Subsequent reads return the items of the list
+     * until {@link #exitList()} is called.
+     *
+     * @return length of the list payload in bytes
+     */
+    public int enterList() {
+        readHeader();
+        if (!headerIsList) {
+            throw new RlpDecodingException("Expected RLP list at position " + position);
+        }
+        int length = payloadLength;
+        if (depth == listEnds.length) {
+            listEnds = Arrays.copyOf(listEnds, depth * 2);
+        }
+        listEnds[depth++] = position + length;
+        headerRead = false;
+        return length;
+    }
+
+    /** Skip any unread items in the current list and return to the enclosing list. */
+    public void exitList() {
+        if (depth == 0) {
+            throw new IllegalStateException("Not within an RLP list");
+        }
+        long end = listEnds[--depth];
+        headerRead = false;
+        consume(end - position);
+    }
+
+    /** Skip the next item, which may be either a string or an entire list. */
+    public void skip() {
+        readHeader();
+        headerRead = false;
+        consume(payloadLength);
+    }
+
+    /**
+     * Read the next item, which must be a string.
+     *
+     * @return the string, which is a view over the input where possible
+     */
+    public RlpString nextString() {
+        int length = readStringHeader();
+        RlpString result = input.readString(length);
+        position += length;
+        return result;
+    }
+
+    /** Read the contents of the next item, which must be a string. */
+    public byte[] readBytes() {
+        int length = readStringHeader();
+        byte[] result = input.readBytes(length);
+        position += length;
+        return result;
+    }
+
+    /** Read the next item as a positive integer. */
+    public BigInteger readBigInteger() {
+        int length = readStringHeader();
+        if (length == 0) {
+            return BigInteger.ZERO;
+        }
+        byte[] magnitude = input.readBytes(length);
+        position += length;
+        return new BigInteger(1, magnitude);
+    }
+
+    /** Read the next item as a positive integer that fits in a <code>long</code>. */
+    public long readLong() {
+        return readUnsigned(Long.BYTES);
+    }
+
+    /** Read the next item as a positive integer that fits in an <code>int</code>. */
+    public int readInt() {
+        long value = readUnsigned(Integer.BYTES);
+        if (value > Integer.MAX_VALUE) {
+            throw new RlpDecodingException("RLP value exceeds int range: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Read the next item as an Ethereum address.
+     *
+     * @return hex encoded address with a 0x prefix, or null if the string is empty, as it is for
+     *     contract creation transactions
+     */
+    public String readAddress() {
+        int length = readStringHeader();
+        if (length == 0) {
+            return null;
+        }
+        if (length != ADDRESS_LENGTH) {
+            throw new RlpDecodingException(
+                    "Invalid address length " + length + " at position " + position);
+        }
+        byte[] address = new byte[ADDRESS_LENGTH];
+        input.read(address, 0, ADDRESS_LENGTH);
+        position += ADDRESS_LENGTH;
+        return Numeric.toHexString(address);
+    }
+
+    private long readUnsigned(int maxBytes) {
+        int length = readStringHeader();
+        if (length > maxBytes) {
+            throw new RlpDecodingException(
+                    "RLP value of " + length + " bytes exceeds " + maxBytes + " bytes");
+        }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = (value << 8) | input.read();
+        }
+        position += length;
+        if (value < 0) {
+            throw new RlpDecodingException("RLP value exceeds long range");
+        }
+        return value;
+    }
+
+    private int readStringHeader() {
+        readHeader();
+        if (headerIsList) {
+            throw new RlpDecodingException("Expected RLP string at position " + position);
+        }
+        headerRead = false;
+        return payloadLength;
+    }
+
+    private void readHeader() {
+        if (headerRead) {
+            return;
+        }
+        if (!hasNext()) {
+            throw new RlpDecodingException("No RLP items remaining at position " + position);
+        }
+
+        headerStart = position;
+        int prefix = input.peek();
+        if (prefix < OFFSET_SHORT_STRING) {
+            // single byte, which is its own payload
+            headerIsList = false;
+            payloadLength = 1;
+        } else if (prefix <= OFFSET_LONG_STRING) {
+            consume(1);
+            headerIsList = false;
+            payloadLength = prefix - OFFSET_SHORT_STRING;
+        } else if (prefix < OFFSET_SHORT_LIST) {
+            consume(1);
+            headerIsList = false;
+            payloadLength = readLength(prefix - OFFSET_LONG_STRING);
+        } else if (prefix <= OFFSET_LONG_LIST) {
+            consume(1);
+            headerIsList = true;
+            payloadLength = prefix - OFFSET_SHORT_LIST;
+        } else {
+            consume(1);
+            headerIsList = true;
+            payloadLength = readLength(prefix - OFFSET_LONG_LIST);
+        }
+
+        if (depth > 0 && position + payloadLength > listEnds[depth - 1]) {
+            throw new RlpDecodingException(
+                    "RLP item of " + payloadLength + " bytes exceeds enclosing list");
+        }
+        long available = input.remaining();
+        if (available >= 0 && payloadLength > available) {
+            throw new RlpDecodingException("RLP item of " + payloadLength + " bytes exceeds input");
+        }
+        headerRead = true;
+    }
+
+    private int readLength(int lengthOfLength) {
+        if (lengthOfLength > Integer.BYTES) {
+            throw new RlpDecodingException(
+                    "RLP length of " + lengthOfLength + " bytes is not supported");
+        }
+        long length = 0;
+        for (int i = 0; i < lengthOfLength; i++) {
+            length = (length << 8) | input.read();
+        }
+        position += lengthOfLength;
+        if (length > Integer.MAX_VALUE) {
+            throw new RlpDecodingException("RLP length " + length + " is not supported");
+        }
+        return (int) length;
+    }
+
+    private void consume(long length) {
+        input.skip(length);
+        position += length;
+    }
+
+    /** Source of the encoded bytes. Reads beyond the end of the input fail. */
+    private interface Input {
+        boolean hasMore();
+
+        /** Returns the next byte as an unsigned value, without consuming it. */
+        int peek();
+
+        /** Returns the next byte as an unsigned value. */
+        int read();
+
+        void read(byte[] destination, int offset, int length);
+
+        byte[] readBytes(int length);
+
+        RlpString readString(int length);
+
+        void skip(long length);
+
+        /** Returns the number of bytes remaining, or -1 if unknown. */
+        long remaining();
+    }
+
+    private static final class BufferInput implements Input {
+        private final ByteBuffer buffer;
+
+        BufferInput(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public boolean hasMore() {
+            return buffer.hasRemaining();
+        }
+
+        @Override
+        public int peek() {
+            return buffer.get(buffer.position()) & 0xff;
+        }
+
+        @Override
+        public int read() {
+            checkAvailable(1);
+            return buffer.get() & 0xff;
+        }
+
+        @Override
+        public void read(byte[] destination, int offset, int length) {
+            checkAvailable(length);
+            buffer.get(destination, offset, length);
+        }
+
+        @Override
+        public byte[] readBytes(int length) {
+            byte[] bytes = new byte[length];
+            read(bytes, 0, length);
+            return bytes;
+        }
+
+        @Override
+        public RlpString readString(int length) {
+            checkAvailable(length);
+            if (buffer.hasArray()) {
+                RlpString result =
+                        RlpString.wrap(
+                                buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+                buffer.position(buffer.position() + length);
+                return result;
+            } else {
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                return RlpString.create(bytes);
+            }
+        }
+
+        @Override
+        public void skip(long length) {
+            checkAvailable(length);
+            buffer.position(buffer.position() + (int) length);
+        }
+
+        @Override
+        public long remaining() {
+            return buffer.remaining();
+        }
+
+        private void checkAvailable(long length) {
+            if (length > buffer.remaining()) {
+                throw new RlpDecodingException("Unexpected end of RLP input");
+            }
+        }
+    }
+
+    private static final class StreamInput implements Input {
+        private static final int CHUNK_SIZE = 8192;
+
+        private final InputStream inputStream;
+        private int next = -1;
+
+        StreamInput(InputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        @Override
+        public boolean hasMore() {
+            return fill() >= 0;
+        }
+
+        @Override
+        public int peek() {
+            int result = fill();
+            if (result < 0) {
+                throw new RlpDecodingException("Unexpected end of RLP input");
+            }
+            return result;
+        }
+
+        @Override
+        public int read() {
+            int result = peek();
+            next = -1;
+            return result;
+        }
+
+        @Override
+        public void read(byte[] destination, int offset, int length) {
+            if (length == 0) {
+                return;
+            }
+            destination[offset] = (byte) read();
+            int read = 1;
+            try {
+                while (read < length) {
+                    int count = inputStream.read(destination, offset + read, length - read);
+                    if (count < 0) {
+                        throw new RlpDecodingException("Unexpected end of RLP input");
+                    }
+                    read += count;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Read bytes in chunks, as the length is read from the stream itself and the stream may end
+         * long before it. The buffer only grows once the data to fill it has arrived.
+         */
+        @Override
+        public byte[] readBytes(int length) {
+            byte[] bytes = new byte[Math.min(length, CHUNK_SIZE)];
+            int read = 0;
+            while (read < length) {
+                if (read == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+                }
+                read(bytes, read, bytes.length - read);
+                read = bytes.length;
+            }
+            return bytes;
+        }
+
+        @Override
+        public RlpString readString(int length) {
+            return RlpString.create(readBytes(length));
+        }
+
+        @Override
+        public void skip(long length) {
+            if (length == 0) {
+                return;
+            }
+            read();
+            long skipped = 1;
+            try {
+                while (skipped < length) {
+                    long count = inputStream.skip(length - skipped);
+                    if (count <= 0) {
+                        // skip may legitimately return 0 before the end of the stream
+                        if (inputStream.read() < 0) {
+                            throw new RlpDecodingException("Unexpected end of RLP input");
+                        }
+                        count = 1;
+                    }
+                    skipped += count;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public long remaining() {
+            return -1;
+        }
+
+        private int fill() {
+            if (next < 0) {
+                try {
+                    next = inputStream.read();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return next;
+        }
+    }
+}
@@ -21,31 +21,162 @@ import org.web3j.utils.Numeric;
 public class RlpString implements RlpType {
     private static final byte[] EMPTY = new byte[] {};
 
-    private final byte[] value;
+    // null for strings created from a long, which hold their value in numericValue instead
+    private final byte[] source;
+    private final int offset;
+    private final int length;
+    private final long numericValue;
+
+    private volatile byte[] value;
 
     private RlpString(byte[] value) {
+        this.source = value;
+        this.offset = 0;
+        this.length = value.length;
+        this.numericValue = 0;
         this.value = value;
     }
 
+    private RlpString(byte[] source, int offset, int length) {
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+        this.numericValue = 0;
+    }
+
+    private RlpString(long numericValue) {
+        this.source = null;
+        this.offset = 0;
+        this.length = RlpEncoder.minimalByteLength(numericValue);
+        this.numericValue = numericValue;
+    }
+
+    /**
+     * Returns the bytes of this string. For strings that are views over a larger array (see {@link
+     * #wrap(byte[], int, int)}) or were created from a <code>long</code>, the bytes are
+     * materialized on the first call only.
+     *
+     * @return bytes of this string
+     */
     public byte[] getBytes() {
-        return value;
+        byte[] result = value;
+        if (result == null) {
+            if (source != null) {
+                result = Arrays.copyOfRange(source, offset, offset + length);
+            } else {
+                result = new byte[length];
+                for (int i = 0; i < length; i++) {
+                    result[i] = byteAt(i);
+                }
+            }
+            value = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of bytes in this string without materializing them.
+     *
+     * @return length in bytes
+     */
+    public int length() {
+        return length;
     }
 
     public BigInteger asPositiveBigInteger() {
-        if (value.length == 0) {
+        if (source == null) {
+            return BigInteger.valueOf(numericValue);
+        }
+        if (length == 0) {
             return BigInteger.ZERO;
         }
-        return new BigInteger(1, value);
+        return new BigInteger(1, getBytes());
+    }
+
+    /**
+     * Interpret this string as a positive integer.
+     *
+     * @return integer value
+     * @throws ArithmeticException if the value does not fit in a <code>long</code>
+     */
+    public long asLong() {
+        if (source == null) {
+            return numericValue;
+        }
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            if ((result >>> (Long.SIZE - Byte.SIZE)) != 0) {
+                throw new ArithmeticException("RLP value out of long range");
+            }
+            result = (result << 8) | (source[offset + i] & 0xff);
+        }
+        if (result < 0) {
+            throw new ArithmeticException("RLP value out of long range");
+        }
+        return result;
+    }
+
+    /**
+     * Interpret this string as a positive integer.
+     *
+     * @return integer value
+     * @throws ArithmeticException if the value does not fit in an <code>int</code>
+     */
+    public int asInt() {
+        long result = asLong();
+        if (result > Integer.MAX_VALUE) {
+            throw new ArithmeticException("RLP value out of int range");
+        }
+        return (int) result;
     }
 
     public String asString() {
-        return Numeric.toHexString(value);
+        if (source == null) {
+            return Numeric.toHexString(getBytes());
+        }
+        return Numeric.toHexString(source, offset, length, true);
+    }
+
+    byte[] source() {
+        return source;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    long numericValue() {
+        return numericValue;
+    }
+
+    private byte byteAt(int index) {
+        if (source != null) {
+            return source[offset + index];
+        }
+        return (byte) (numericValue >>> ((length - 1 - index) * Byte.SIZE));
     }
 
     public static RlpString create(byte[] value) {
         return new RlpString(value);
     }
 
+    /**
+     * Create a string that is a view over a region of the provided array. The region is not copied,
+     * so the array must not be modified while the returned string is in use.
+     *
+     * @param source backing array
+     * @param offset start of the string within the array
+     * @param length number of bytes in the string
+     * @return string view
+     */
+    public static RlpString wrap(byte[] source, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "Region [" + offset + ", " + length + "] is outside of array bounds");
+        }
+        return new RlpString(source, offset, length);
+    }
+
     public static RlpString create(byte value) {
         return new RlpString(new byte[] {value});
     }
@@ -54,6 +185,8 @@ public class RlpString implements RlpType {
         // RLP encoding only supports positive integer values
         if (value.signum() < 1) {
             return new RlpString(EMPTY);
+        } else if (value.bitLength() < Long.SIZE) {
+            return new RlpString(value.longValue());
         } else {
             byte[] bytes = value.toByteArray();
             if (bytes[0] == 0) { // remove leading zero
@@ -65,7 +198,11 @@ public class RlpString implements RlpType {
     }
 
     public static RlpString create(long value) {
-        return create(BigInteger.valueOf(value));
+        // RLP encoding only supports positive integer values
+        if (value < 1) {
+            return new RlpString(EMPTY);
+        }
+        return new RlpString(value);
     }
 
     public static RlpString create(String value) {
@@ -83,11 +220,27 @@ public class RlpString implements RlpType {
 
         RlpString rlpString = (RlpString) o;
 
-        return Arrays.equals(value, rlpString.value);
+        if (length != rlpString.length) {
+            return false;
+        }
+        if (source == null && rlpString.source == null) {
+            return numericValue == rlpString.numericValue;
+        }
+        for (int i = 0; i < length; i++) {
+            if (byteAt(i) != rlpString.byteAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(value);
+        // consistent with Arrays.hashCode(getBytes())
+        int result = 1;
+        for (int i = 0; i < length; i++) {
+            result = 31 * result + byteAt(i);
+        }
+        return result;
     }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_LIST;
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_STRING;
+import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_LIST;
+import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_STRING;
+
+/**
+ * Streaming Recursive Length Prefix (RLP) writer.
+ *
+ * <p>Values are encoded directly into a growable buffer as they are written, so no {@link RlpType}
+ * tree needs to be built first:
+ *
+ * <pre>
+ * byte[] encoded = new RlpWriter()
+ *         .startList()
+ *         .writeBytes(address)
+ *         .writeBigInteger(nonce)
+ *         .endList()
+ *         .toByteArray();
+ * </pre>
+ *
+ * <p>The length prefix of a list is only known once the list is ended, at which point it is written
+ * back into the space reserved when the list was started. The output is identical to that of {@link
+ * RlpEncoder#encode(RlpType)} for the equivalent {@link RlpType} structure.
+ *
+ * <p>Instances are not thread safe.
+ */
+public class RlpWriter {
+
+    private static final int SHORT_LENGTH_LIMIT = 55;
+
+    private byte[] buffer;
+    private int size;
+
+    private int[] listStarts = new int[8];
+    private int depth;
+
+    public RlpWriter() {
+        this(128);
+    }
+
+    public RlpWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 1)];
+    }
+
+    /** Start a new list. All values written until the matching {@link #endList()} belong to it. */
+    public RlpWriter startList() {
+        if (depth == listStarts.length) {
+            listStarts = Arrays.copyOf(listStarts, depth * 2);
+        }
+        ensureCapacity(1);
+        // reserve a single byte for the prefix, which is sufficient for short lists
+        listStarts[depth++] = size++;
+        return this;
+    }
+
+    /** End the most recently started list, writing its length prefix. */
+    public RlpWriter endList() {
+        if (depth == 0) {
+            throw new IllegalStateException("No RLP list has been started");
+        }
+        int start = listStarts[--depth];
+        int payloadLength = size - start - 1;
+        if (payloadLength <= SHORT_LENGTH_LIMIT) {
+            buffer[start] = (byte) (OFFSET_SHORT_LIST + payloadLength);
+        } else {
+            int lengthOfLength = RlpEncoder.minimalByteLength(payloadLength);
+            ensureCapacity(lengthOfLength);
+            System.arraycopy(buffer, start + 1, buffer, start + 1 + lengthOfLength, payloadLength);
+            size += lengthOfLength;
+            buffer[start] = (byte) (OFFSET_LONG_LIST + lengthOfLength);
+            putLength(start + 1, payloadLength, lengthOfLength);
+        }
+        return this;
+    }
+
+    public RlpWriter writeBytes(byte[] value) {
+        return writeBytes(value, 0, value.length);
+    }
+
+    public RlpWriter writeBytes(byte[] value, int offset, int length) {
+        if (length == 1 && value[offset] >= (byte) 0x00) {
+            ensureCapacity(1);
+            buffer[size++] = value[offset];
+        } else {
+            writeStringPrefix(length);
+            System.arraycopy(value, offset, buffer, size, length);
+            size += length;
+        }
+        return this;
+    }
+
+    /**
+     * Write a string value, using the platform's default charset as {@link
+     * RlpString#create(String)} does.
+     */
+    public RlpWriter writeString(String value) {
+        return writeBytes(value.getBytes());
+    }
+
+    /**
+     * Write an integer value. As RLP only supports positive integers, zero and negative values are
+     * written as an empty string.
+     */
+    public RlpWriter writeBigInteger(BigInteger value) {
+        if (value.signum() < 1) {
+            return writeBytes(new byte[] {});
+        }
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) { // remove leading zero
+            return writeBytes(bytes, 1, bytes.length - 1);
+        } else {
+            return writeBytes(bytes);
+        }
+    }
+
+    /**
+     * Write an integer value. As RLP only supports positive integers, zero and negative values are
+     * written as an empty string.
+     */
+    public RlpWriter writeLong(long value) {
+        if (value <= 0) {
+            return writeBytes(new byte[] {});
+        }
+        if (value < OFFSET_SHORT_STRING) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+            return this;
+        }
+        int length = RlpEncoder.minimalByteLength(value);
+        writeStringPrefix(length);
+        for (int shift = (length - 1) * 8; shift >= 0; shift -= 8) {
+            buffer[size++] = (byte) (value >>> shift);
+        }
+        return this;
+    }
+
+    /** Write a previously constructed value. */
+    public RlpWriter write(RlpType value) {
+        int length = RlpEncoder.encodedLength(value);
+        ensureCapacity(length);
+        RlpEncoder.encode(value, ByteBuffer.wrap(buffer, size, length));
+        size += length;
+        return this;
+    }
+
+    /** Number of bytes written so far. */
+    public int size() {
+        return size;
+    }
+
+    /** Discard everything written so far, retaining the allocated buffer. */
+    public void reset() {
+        size = 0;
+        depth = 0;
+    }
+
+    /**
+     * Returns a copy of the encoding.
+     *
+     * @return encoded bytes
+     * @throws IllegalStateException if a list has been started but not ended
+     */
+    public byte[] toByteArray() {
+        if (depth != 0) {
+            throw new IllegalStateException(depth + " RLP list(s) have not been ended");
+        }
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void writeStringPrefix(int length) {
+        if (length <= SHORT_LENGTH_LIMIT) {
+            ensureCapacity(1 + length);
+            buffer[size++] = (byte) (OFFSET_SHORT_STRING + length);
+        } else {
+            int lengthOfLength = RlpEncoder.minimalByteLength(length);
+            ensureCapacity(1 + lengthOfLength + length);
+            buffer[size++] = (byte) (OFFSET_LONG_STRING + lengthOfLength);
+            putLength(size, length, lengthOfLength);
+            size += lengthOfLength;
+        }
+    }
+
+    private void putLength(int position, int length, int lengthOfLength) {
+        for (int i = lengthOfLength - 1; i >= 0; i--) {
+            buffer[position + i] = (byte) length;
+            length >>>= 8;
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = size + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+}
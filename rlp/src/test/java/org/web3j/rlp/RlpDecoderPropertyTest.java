@@ -0,0 +1,264 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Property based tests for {@link RlpDecoder}, comparing it with the original recursive decoder on
+ * valid input and checking that malformed input is rejected cleanly.
+ */
+public class RlpDecoderPropertyTest {
+
+    private static final int ITERATIONS = 2000;
+
+    @Test
+    public void testMatchesRecursiveDecoderOnValidInput() {
+        Random random = new Random(1);
+        for (int i = 0; i < ITERATIONS; i++) {
+            byte[] encoded = encodeItems(random);
+
+            RlpList expected = RecursiveRlpDecoder.decode(encoded);
+            assertRlpEquals(expected, RlpDecoder.decode(encoded));
+            assertRlpEquals(expected, RlpDecoder.decodeView(encoded));
+        }
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Random random = new Random(2);
+        for (int i = 0; i < ITERATIONS; i++) {
+            RlpType value = randomValue(random, 0);
+            byte[] encoded = RlpEncoder.encode(value);
+
+            RlpList decoded = RlpDecoder.decode(encoded);
+            assertEquals(1, decoded.getValues().size());
+            assertRlpEquals(value, decoded.getValues().get(0));
+            assertArrayEquals(encoded, RlpEncoder.encode(decoded.getValues().get(0)));
+        }
+    }
+
+    @Test
+    public void testMalformedInputIsRejectedCleanly() {
+        Random random = new Random(3);
+        for (int i = 0; i < ITERATIONS * 5; i++) {
+            byte[] encoded = mutate(random, encodeItems(random));
+
+            RlpList decoded;
+            try {
+                decoded = RlpDecoder.decode(encoded);
+            } catch (RlpDecodingException e) {
+                continue;
+            }
+            // anything accepted must be well formed, so it decodes the same way recursively
+            assertRlpEquals(RecursiveRlpDecoder.decode(encoded), decoded);
+        }
+    }
+
+    @Test
+    public void testLengthPrefixBeyondInput() {
+        // string claiming 2^31 - 1 bytes, list claiming 2^32 - 1 bytes
+        assertThrows(
+                RlpDecodingException.class,
+                () -> RlpDecoder.decode(new byte[] {(byte) 0xbb, 0x7f, -1, -1, -1, 0}));
+        assertThrows(
+                RlpDecodingException.class,
+                () -> RlpDecoder.decode(new byte[] {(byte) 0xfb, -1, -1, -1, -1, 0}));
+        // length of length beyond input
+        assertThrows(
+                RlpDecodingException.class, () -> RlpDecoder.decode(new byte[] {(byte) 0xb9, 1}));
+        // string extending beyond the end of its list
+        assertThrows(
+                RlpDecodingException.class,
+                () -> RlpDecoder.decode(new byte[] {(byte) 0xc1, (byte) 0x81, 0x7f}));
+    }
+
+    @Test
+    public void testLimits() {
+        byte[] nested = new byte[100];
+        for (int i = 0; i < nested.length; i++) {
+            nested[i] = (byte) (0xc0 + nested.length - i - 1);
+        }
+        // lists of up to 55 bytes use a single byte prefix
+        byte[] deep = new byte[50];
+        System.arraycopy(nested, nested.length - deep.length, deep, 0, deep.length);
+
+        assertEquals(1, RlpDecoder.decode(deep, 50, Integer.MAX_VALUE).getValues().size());
+        assertThrows(
+                RlpDecodingException.class, () -> RlpDecoder.decode(deep, 49, Integer.MAX_VALUE));
+
+        byte[] string = RlpEncoder.encode(RlpString.create(new byte[100]));
+        assertEquals(1, RlpDecoder.decode(string, 0, 100).getValues().size());
+        assertThrows(RlpDecodingException.class, () -> RlpDecoder.decode(string, 0, 99));
+        assertThrows(
+                RlpDecodingException.class,
+                () -> RlpDecoder.decodeView(new byte[] {(byte) 0xc0}, 0, 100));
+    }
+
+    @Test
+    public void testDeepNestingDoesNotOverflowStack() {
+        int depth = 100000;
+        RlpWriter writer = new RlpWriter();
+        for (int i = 0; i < depth; i++) {
+            writer.startList();
+        }
+        for (int i = 0; i < depth; i++) {
+            writer.endList();
+        }
+        byte[] encoded = writer.toByteArray();
+
+        RlpList rlpList = RlpDecoder.decode(encoded, depth, Integer.MAX_VALUE);
+        for (int i = 0; i < depth; i++) {
+            assertEquals(1, rlpList.getValues().size());
+            rlpList = (RlpList) rlpList.getValues().get(0);
+        }
+        assertTrue(rlpList.getValues().isEmpty());
+
+        assertThrows(RlpDecodingException.class, () -> RlpDecoder.decode(encoded));
+    }
+
+    private static byte[] encodeItems(Random random) {
+        RlpWriter writer = new RlpWriter();
+        int items = 1 + random.nextInt(3);
+        for (int i = 0; i < items; i++) {
+            writer.write(randomValue(random, 0));
+        }
+        return writer.toByteArray();
+    }
+
+    private static byte[] mutate(Random random, byte[] encoded) {
+        byte[] result = encoded.clone();
+        switch (random.nextInt(3)) {
+            case 0:
+                result[random.nextInt(result.length)] = (byte) random.nextInt(256);
+                return result;
+            case 1:
+                byte[] truncated = new byte[random.nextInt(result.length)];
+                System.arraycopy(result, 0, truncated, 0, truncated.length);
+                return truncated;
+            default:
+                for (int i = 0; i < 1 + random.nextInt(4); i++) {
+                    result[random.nextInt(result.length)] = (byte) (0xb8 + random.nextInt(72));
+                }
+                return result;
+        }
+    }
+
+    private static RlpType randomValue(Random random, int depth) {
+        if (depth > 4 || random.nextInt(3) == 0) {
+            int length;
+            switch (random.nextInt(4)) {
+                case 0:
+                    length = 1;
+                    break;
+                case 1:
+                    length = random.nextInt(1024);
+                    break;
+                default:
+                    length = random.nextInt(60);
+            }
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            return RlpString.create(bytes);
+        }
+
+        List<RlpType> values = new ArrayList<>();
+        int size = random.nextInt(6);
+        for (int i = 0; i < size; i++) {
+            values.add(randomValue(random, depth + 1));
+        }
+        return new RlpList(values);
+    }
+
+    private static void assertRlpEquals(RlpType expected, RlpType actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        if (expected instanceof RlpString) {
+            assertEquals(expected, actual);
+        } else {
+            List<RlpType> expectedValues = ((RlpList) expected).getValues();
+            List<RlpType> actualValues = ((RlpList) actual).getValues();
+            assertEquals(expectedValues.size(), actualValues.size());
+            for (int i = 0; i < expectedValues.size(); i++) {
+                assertRlpEquals(expectedValues.get(i), actualValues.get(i));
+            }
+        }
+    }
+
+    /** The original recursive decoder, kept as a reference implementation. */
+    private static class RecursiveRlpDecoder {
+
+        static RlpList decode(byte[] rlpEncoded) {
+            RlpList rlpList = new RlpList(new ArrayList<>());
+            traverse(rlpEncoded, 0, rlpEncoded.length, rlpList);
+            return rlpList;
+        }
+
+        private static void traverse(byte[] data, int startPos, int endPos, RlpList rlpList) {
+            while (startPos < endPos) {
+                int prefix = data[startPos] & 0xff;
+
+                if (prefix < 0x80) {
+                    rlpList.getValues().add(RlpString.create(new byte[] {(byte) prefix}));
+                    startPos += 1;
+                } else if (prefix <= 0xb7) {
+                    int strLen = prefix - 0x80;
+                    byte[] rlpData = new byte[strLen];
+                    System.arraycopy(data, startPos + 1, rlpData, 0, strLen);
+                    rlpList.getValues().add(RlpString.create(rlpData));
+                    startPos += 1 + strLen;
+                } else if (prefix < 0xc0) {
+                    int lenOfStrLen = prefix - 0xb7;
+                    int strLen = calcLength(lenOfStrLen, data, startPos);
+                    byte[] rlpData = new byte[strLen];
+                    System.arraycopy(data, startPos + lenOfStrLen + 1, rlpData, 0, strLen);
+                    rlpList.getValues().add(RlpString.create(rlpData));
+                    startPos += lenOfStrLen + strLen + 1;
+                } else if (prefix <= 0xf7) {
+                    int listLen = prefix - 0xc0;
+                    RlpList newLevelList = new RlpList(new ArrayList<>());
+                    traverse(data, startPos + 1, startPos + listLen + 1, newLevelList);
+                    rlpList.getValues().add(newLevelList);
+                    startPos += 1 + listLen;
+                } else {
+                    int lenOfListLen = prefix - 0xf7;
+                    int listLen = calcLength(lenOfListLen, data, startPos);
+                    RlpList newLevelList = new RlpList(new ArrayList<>());
+                    traverse(
+                            data,
+                            startPos + lenOfListLen + 1,
+                            startPos + lenOfListLen + listLen + 1,
+                            newLevelList);
+                    rlpList.getValues().add(newLevelList);
+                    startPos += lenOfListLen + listLen + 1;
+                }
+            }
+        }
+
+        private static int calcLength(int lengthOfLength, byte[] data, int pos) {
+            int length = 0;
+            for (int i = 1; i <= lengthOfLength; ++i) {
+                length = (length << 8) + (data[pos + i] & 0xff);
+            }
+            return length;
+        }
+    }
+}
@@ -18,7 +18,11 @@ import org.junit.jupiter.api.Test;
 
 import org.web3j.utils.Numeric;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RlpDecoderTest {
@@ -322,4 +326,99 @@ public class RlpDecoderTest {
                         .size(),
                 (9));
     }
+
+    @Test
+    public void testDecodeView() {
+        String data =
+                "F86E12F86B80881BC16D674EC8000094CD2A3D9F938E13CD947EC05ABC7FE734D"
+                        + "F8DD8268609184E72A00064801BA0C52C114D4F5A3BA904A9B3036E5E118FE0DBB987"
+                        + "FE3955DA20F2CD8F6C21AB9CA06BA4C2874299A55AD947DBC98A25EE895AABF6B625C"
+                        + "26C435E84BFD70EDF2F69";
+        byte[] payload = Numeric.hexStringToByteArray(data);
+
+        RlpList copied = (RlpList) RlpDecoder.decode(payload).getValues().get(0);
+        RlpList viewed = (RlpList) RlpDecoder.decodeView(payload).getValues().get(0);
+
+        RlpList copiedTransaction = (RlpList) copied.getValues().get(1);
+        RlpList viewedTransaction = (RlpList) viewed.getValues().get(1);
+        assertEquals(copied.getValues().get(0), viewed.getValues().get(0));
+        assertEquals(copiedTransaction.getValues(), viewedTransaction.getValues());
+
+        for (int i = 0; i < copiedTransaction.getValues().size(); i++) {
+            RlpString expected = (RlpString) copiedTransaction.getValues().get(i);
+            RlpString actual = (RlpString) viewedTransaction.getValues().get(i);
+            assertEquals(expected.hashCode(), actual.hashCode());
+            assertEquals(expected.length(), actual.length());
+            assertEquals(expected.asString(), actual.asString());
+            assertEquals(expected.asPositiveBigInteger(), actual.asPositiveBigInteger());
+            assertArrayEquals(expected.getBytes(), actual.getBytes());
+        }
+
+        assertArrayEquals(payload, RlpEncoder.encode(viewed));
+    }
+
+    @Test
+    public void testWrap() {
+        byte[] source = {'c', 'a', 't', 'd', 'o', 'g'};
+        RlpString dog = RlpString.wrap(source, 3, 3);
+
+        assertEquals(RlpString.create("dog"), dog);
+        assertEquals(RlpString.create("dog").hashCode(), dog.hashCode());
+        assertEquals(3, dog.length());
+        assertEquals("0x646f67", dog.asString());
+
+        byte[] bytes = dog.getBytes();
+        assertArrayEquals(new byte[] {'d', 'o', 'g'}, bytes);
+        assertNotSame(source, bytes);
+        assertSame(bytes, dog.getBytes());
+
+        assertArrayEquals(new byte[] {(byte) 0x83, 'd', 'o', 'g'}, RlpEncoder.encode(dog));
+        assertThrows(IndexOutOfBoundsException.class, () -> RlpString.wrap(source, 4, 3));
+    }
+
+    @Test
+    public void testAsLong() {
+        RlpList rlpList =
+                (RlpList)
+                        RlpDecoder.decodeView(
+                                        new byte[] {
+                                            (byte) 0xce,
+                                            (byte) 0x80,
+                                            (byte) 0x0f,
+                                            (byte) 0x82,
+                                            (byte) 0x04,
+                                            (byte) 0x00,
+                                            (byte) 0x88,
+                                            (byte) 0x80,
+                                            0,
+                                            0,
+                                            0,
+                                            0,
+                                            0,
+                                            0,
+                                            0
+                                        })
+                                .getValues()
+                                .get(0);
+
+        assertEquals(0L, ((RlpString) rlpList.getValues().get(0)).asLong());
+        assertEquals(0x0f, ((RlpString) rlpList.getValues().get(1)).asInt());
+        assertEquals(0x0400L, ((RlpString) rlpList.getValues().get(2)).asLong());
+        assertThrows(
+                ArithmeticException.class, () -> ((RlpString) rlpList.getValues().get(3)).asLong());
+
+        assertEquals(Long.MAX_VALUE, RlpString.create(Long.MAX_VALUE).asLong());
+        assertEquals(Long.MAX_VALUE, RlpString.create(BigInteger.valueOf(Long.MAX_VALUE)).asLong());
+        assertEquals(
+                3000000000L,
+                RlpString.create(new byte[] {0, (byte) 0xb2, (byte) 0xd0, 0x5e, 0}).asLong());
+        assertThrows(
+                ArithmeticException.class,
+                () -> RlpString.create(BigInteger.ONE.shiftLeft(64)).asLong());
+        assertThrows(ArithmeticException.class, () -> RlpString.create(3000000000L).asInt());
+        assertEquals(
+                BigInteger.valueOf(3000000000L),
+                RlpString.create(3000000000L).asPositiveBigInteger());
+        assertEquals("0xb2d05e00", RlpString.create(3000000000L).asString());
+    }
 }
@@ -12,12 +12,20 @@
  */
 package org.web3j.rlp;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class RlpEncoderTest {
 
@@ -164,4 +172,95 @@ public class RlpEncoderTest {
         System.arraycopy(encodeMe, 0, expectedEncoding, 1, encodeMe.length);
         assertArrayEquals(RlpEncoder.encode(RlpString.create(encodeMe)), (expectedEncoding));
     }
+
+    @Test
+    public void testEncodeLongString() {
+        byte[] encodeMe = new byte[1024];
+        Arrays.fill(encodeMe, (byte) 0xaa);
+        byte[] expectedEncoding = new byte[1027];
+        expectedEncoding[0] = (byte) 0xb9;
+        expectedEncoding[1] = (byte) 0x04;
+        expectedEncoding[2] = (byte) 0x00;
+        System.arraycopy(encodeMe, 0, expectedEncoding, 3, encodeMe.length);
+        assertArrayEquals(expectedEncoding, RlpEncoder.encode(RlpString.create(encodeMe)));
+    }
+
+    @Test
+    public void testEncodeLongList() {
+        List<RlpType> values = new ArrayList<>();
+        byte[] expectedEncoding = new byte[304];
+        expectedEncoding[0] = (byte) 0xf9;
+        expectedEncoding[1] = (byte) 0x01;
+        expectedEncoding[2] = (byte) 0x2d;
+        for (int i = 0; i < 100; i++) {
+            values.add(RlpString.create(new byte[] {(byte) 0x81, (byte) i}));
+            expectedEncoding[3 + i * 3] = (byte) 0x82;
+            expectedEncoding[4 + i * 3] = (byte) 0x81;
+            expectedEncoding[5 + i * 3] = (byte) i;
+        }
+        expectedEncoding[303] = (byte) 0xc0;
+        values.add(new RlpList());
+
+        RlpList rlpList = new RlpList(values);
+        assertArrayEquals(expectedEncoding, RlpEncoder.encode(rlpList));
+        assertEquals(expectedEncoding.length, RlpEncoder.encodedLength(rlpList));
+    }
+
+    @Test
+    public void testEncodeToByteBuffer() {
+        RlpList rlpList =
+                new RlpList(
+                        RlpString.create("cat"),
+                        new RlpList(RlpString.create(4), new RlpList()),
+                        RlpString.create("dog"));
+        byte[] expected = RlpEncoder.encode(rlpList);
+
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length + 2);
+        buffer.put((byte) 0x01);
+        assertEquals(expected.length, RlpEncoder.encode(rlpList, buffer));
+        assertEquals(expected.length + 1, buffer.position());
+
+        byte[] written = new byte[expected.length];
+        System.arraycopy(buffer.array(), 1, written, 0, expected.length);
+        assertArrayEquals(expected, written);
+
+        assertThrows(
+                BufferOverflowException.class,
+                () -> RlpEncoder.encode(rlpList, ByteBuffer.allocate(expected.length - 1)));
+    }
+
+    @Test
+    public void testEncodeToOutputStream() throws IOException {
+        RlpList rlpList = new RlpList(RlpString.create("cat"), RlpString.create("dog"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertEquals(9, RlpEncoder.encode(rlpList, outputStream));
+        assertArrayEquals(RlpEncoder.encode(rlpList), outputStream.toByteArray());
+    }
+
+    @Test
+    public void testEncodeLong() {
+        long[] values = {
+            -1, 0, 1, 0x7f, 0x80, 0xff, 0x0100, 0x0400, 3000000000L, Long.MAX_VALUE,
+        };
+        for (long value : values) {
+            byte[] expected = BigInteger.valueOf(value).toByteArray();
+            if (value < 1) {
+                expected = new byte[] {};
+            } else if (expected[0] == 0) {
+                expected = Arrays.copyOfRange(expected, 1, expected.length);
+            }
+
+            RlpString rlpString = RlpString.create(value);
+            assertArrayEquals(expected, rlpString.getBytes());
+            assertEquals(RlpString.create(expected), rlpString);
+            assertEquals(RlpString.create(expected).hashCode(), rlpString.hashCode());
+            assertEquals(expected.length, rlpString.length());
+            assertArrayEquals(
+                    RlpEncoder.encode(RlpString.create(expected)), RlpEncoder.encode(rlpString));
+        }
+
+        assertArrayEquals(
+                new byte[] {(byte) 0xc6, (byte) 0x05, (byte) 0x84, 0x12, 0x34, 0x56, 0x78},
+                RlpEncoder.encode(new RlpList(RlpString.create(5), RlpString.create(0x12345678L))));
+    }
 }
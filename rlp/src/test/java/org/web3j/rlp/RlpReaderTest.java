@@ -0,0 +1,203 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RlpReaderTest {
+
+    private static final byte[] SIGNED_TRANSACTION =
+            Numeric.hexStringToByteArray(
+                    "0xf86c098504a817c800825208943535353535353535353535353535353535353535880de0"
+                            + "b6b3a76400008025a028ef61340bd939bc2195fe537567866003e1a15d3c71ff63e15"
+                            + "90620aa636276a067cbe9d8997f761aecb703304b3800ccf555c9f3dc64214b297fb1"
+                            + "966a3b6d83");
+
+    @Test
+    public void testReadTransaction() {
+        RlpList expected = (RlpList) RlpDecoder.decode(SIGNED_TRANSACTION).getValues().get(0);
+
+        RlpReader reader = new RlpReader(SIGNED_TRANSACTION);
+        assertTrue(reader.isList());
+        assertEquals(SIGNED_TRANSACTION.length, reader.remaining());
+        assertEquals(0x6c, reader.enterList());
+        assertEquals(1, reader.depth());
+        assertEquals(0x6c, reader.remaining());
+
+        assertEquals(9L, reader.readLong());
+        assertEquals(BigInteger.valueOf(20000000000L), reader.readBigInteger());
+        assertEquals(21000, reader.readInt());
+        assertEquals("0x3535353535353535353535353535353535353535", reader.readAddress());
+        assertEquals(new BigInteger("1000000000000000000"), reader.readBigInteger());
+        assertArrayEquals(new byte[] {}, reader.readBytes());
+        assertEquals(37, reader.readInt());
+        assertEquals(expected.getValues().get(7), reader.nextString());
+        assertEquals(expected.getValues().get(8), reader.nextString());
+
+        assertFalse(reader.hasNext());
+        assertEquals(0, reader.remaining());
+        reader.exitList();
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testSkip() {
+        RlpReader reader = new RlpReader(SIGNED_TRANSACTION);
+        reader.enterList();
+        reader.skip();
+        reader.skip();
+        reader.skip();
+        assertTrue(reader.isString());
+        assertEquals("0x3535353535353535353535353535353535353535", reader.readAddress());
+        reader.exitList();
+        assertFalse(reader.hasNext());
+
+        reader = new RlpReader(SIGNED_TRANSACTION);
+        reader.skip();
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testNestedLists() {
+        // [ [], [[]], [ [], [[]] ] ]
+        byte[] encoded = {
+            (byte) 0xc7,
+            (byte) 0xc0,
+            (byte) 0xc1,
+            (byte) 0xc0,
+            (byte) 0xc3,
+            (byte) 0xc0,
+            (byte) 0xc1,
+            (byte) 0xc0
+        };
+
+        RlpReader reader = new RlpReader(encoded);
+        assertEquals(7, reader.enterList());
+        reader.skip();
+        assertEquals(1, reader.enterList());
+        assertEquals(0, reader.enterList());
+        assertFalse(reader.hasNext());
+        reader.exitList();
+        reader.exitList();
+        assertEquals(3, reader.enterList());
+        assertEquals(0, reader.enterList());
+        reader.exitList();
+        assertEquals(2, reader.remaining());
+        reader.exitList();
+        assertEquals(0, reader.remaining());
+        reader.exitList();
+        assertEquals(0, reader.depth());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testReadFromByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(SIGNED_TRANSACTION.length);
+        buffer.put(SIGNED_TRANSACTION);
+        buffer.flip();
+
+        RlpReader reader = new RlpReader(buffer);
+        reader.enterList();
+        assertEquals(9L, reader.readLong());
+        reader.skip();
+        reader.skip();
+        assertEquals(RlpString.create(new byte[20]).length(), reader.nextString().length());
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void testReadFromInputStream() {
+        RlpReader reader = new RlpReader(new ByteArrayInputStream(SIGNED_TRANSACTION));
+        assertEquals(-1, reader.remaining());
+        reader.enterList();
+        assertEquals(0x6c, reader.remaining());
+        assertEquals(9L, reader.readLong());
+        reader.skip();
+        reader.skip();
+        assertEquals("0x3535353535353535353535353535353535353535", reader.readAddress());
+        reader.exitList();
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testHugeLengthFromInputStream() {
+        // string declaring a 2 GB payload followed by two bytes
+        byte[] encoded = {(byte) 0xbb, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xf0, 1, 2};
+
+        assertThrows(
+                RlpDecodingException.class,
+                () -> new RlpReader(new ByteArrayInputStream(encoded)).readBytes());
+        assertThrows(
+                RlpDecodingException.class,
+                () -> new RlpReader(new ByteArrayInputStream(encoded)).readBigInteger());
+        assertThrows(
+                RlpDecodingException.class,
+                () -> new RlpReader(new ByteArrayInputStream(encoded)).nextString());
+
+        byte[] large = new byte[20000];
+        Arrays.fill(large, (byte) 7);
+        RlpReader reader =
+                new RlpReader(new ByteArrayInputStream(RlpEncoder.encode(RlpString.create(large))));
+        assertArrayEquals(large, reader.readBytes());
+    }
+
+    @Test
+    public void testReadEmptyAddress() {
+        RlpReader reader = new RlpReader(new byte[] {(byte) 0x80});
+        assertNull(reader.readAddress());
+    }
+
+    @Test
+    public void testInvalidInput() {
+        // string with declared length past the end of the input
+        assertThrows(
+                RlpDecodingException.class,
+                () -> new RlpReader(new byte[] {(byte) 0x83, 'd', 'o'}).readBytes());
+
+        // string with declared length past the end of its list
+        assertThrows(
+                RlpDecodingException.class,
+                () -> {
+                    RlpReader reader =
+                            new RlpReader(new byte[] {(byte) 0xc2, (byte) 0x82, 'd', 'o'});
+                    reader.enterList();
+                    reader.readBytes();
+                });
+
+        assertThrows(
+                RlpDecodingException.class,
+                () -> new RlpReader(new byte[] {(byte) 0xc0}).readBytes());
+        assertThrows(
+                RlpDecodingException.class,
+                () -> new RlpReader(new byte[] {(byte) 0x80}).enterList());
+        assertThrows(
+                RlpDecodingException.class,
+                () -> new RlpReader(RlpEncoder.encode(RlpString.create(new byte[9]))).readLong());
+        assertThrows(RlpDecodingException.class, () -> new RlpReader(new byte[] {}).skip());
+        assertThrows(IllegalStateException.class, () -> new RlpReader(new byte[] {}).exitList());
+    }
+}
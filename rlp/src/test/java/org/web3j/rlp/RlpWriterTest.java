@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RlpWriterTest {
+
+    @Test
+    public void testWriteList() {
+        assertArrayEquals(
+                new byte[] {(byte) 0xc8, (byte) 0x83, 'c', 'a', 't', (byte) 0x83, 'd', 'o', 'g'},
+                new RlpWriter()
+                        .startList()
+                        .writeString("cat")
+                        .writeString("dog")
+                        .endList()
+                        .toByteArray());
+
+        assertArrayEquals(
+                new byte[] {(byte) 0xc0}, new RlpWriter(1).startList().endList().toByteArray());
+    }
+
+    @Test
+    public void testWriteNumbers() {
+        long[] values = {
+            -1, 0, 1, 0x7f, 0x80, 0xff, 0x0400, 3000000000L, Long.MAX_VALUE,
+        };
+        for (long value : values) {
+            byte[] expected = RlpEncoder.encode(RlpString.create(value));
+            assertArrayEquals(expected, new RlpWriter().writeLong(value).toByteArray());
+            assertArrayEquals(
+                    expected,
+                    new RlpWriter().writeBigInteger(BigInteger.valueOf(value)).toByteArray());
+        }
+
+        BigInteger large = BigInteger.ONE.shiftLeft(255);
+        assertArrayEquals(
+                RlpEncoder.encode(RlpString.create(large)),
+                new RlpWriter().writeBigInteger(large).toByteArray());
+    }
+
+    @Test
+    public void testMatchesEncoder() {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            RlpWriter writer = new RlpWriter(4);
+            RlpType value = randomValue(random, writer, 0);
+            assertArrayEquals(RlpEncoder.encode(value), writer.toByteArray());
+            assertEquals(RlpEncoder.encodedLength(value), writer.size());
+        }
+    }
+
+    @Test
+    public void testWriteRlpType() {
+        RlpList rlpList = new RlpList(RlpString.create("cat"), new RlpList(RlpString.create(4)));
+
+        RlpWriter writer = new RlpWriter(1);
+        writer.startList().write(rlpList).writeLong(1).endList();
+
+        assertArrayEquals(
+                RlpEncoder.encode(new RlpList(rlpList, RlpString.create(1))), writer.toByteArray());
+    }
+
+    @Test
+    public void testReset() {
+        RlpWriter writer = new RlpWriter();
+        writer.startList().writeString("cat");
+        writer.reset();
+        assertEquals(0, writer.size());
+        assertArrayEquals(
+                new byte[] {(byte) 0x83, 'd', 'o', 'g'}, writer.writeString("dog").toByteArray());
+    }
+
+    @Test
+    public void testUnbalancedLists() {
+        assertThrows(IllegalStateException.class, () -> new RlpWriter().endList());
+        assertThrows(IllegalStateException.class, () -> new RlpWriter().startList().toByteArray());
+    }
+
+    private static RlpType randomValue(Random random, RlpWriter writer, int depth) {
+        if (depth > 3 || random.nextInt(3) == 0) {
+            int length = random.nextInt(10) == 0 ? random.nextInt(1000) : random.nextInt(60);
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            writer.writeBytes(bytes);
+            return RlpString.create(bytes);
+        }
+
+        writer.startList();
+        List<RlpType> values = new ArrayList<>();
+        int size = random.nextInt(8);
+        for (int i = 0; i < size; i++) {
+            values.add(randomValue(random, writer, depth + 1));
+        }
+        writer.endList();
+        return new RlpList(values);
+    }
+}
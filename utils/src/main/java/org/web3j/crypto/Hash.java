@@ -12,21 +12,39 @@
  */
 package org.web3j.crypto;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+import org.spongycastle.crypto.digests.KeccakDigest;
 import org.spongycastle.crypto.digests.RIPEMD160Digest;
 import org.spongycastle.crypto.digests.SHA512Digest;
 import org.spongycastle.crypto.macs.HMac;
 import org.spongycastle.crypto.params.KeyParameter;
 import org.spongycastle.jcajce.provider.digest.Blake2b;
-import org.spongycastle.jcajce.provider.digest.Keccak;
 
 import org.web3j.utils.Numeric;
 
 /** Cryptographic hash functions. */
 public class Hash {
+
+    /** Length in bytes of a Keccak-256 hash. */
+    public static final int SHA3_LENGTH = 32;
+
+    /**
+     * Default number of inputs hashed by a single task in {@link #sha3Batch(byte[][], byte[][])}.
+     */
+    public static final int SHA3_BATCH_THRESHOLD = 256;
+
+    // Keccak state is reused within a thread, it is reset after every digest
+    private static final ThreadLocal<KeccakDigest> KECCAK =
+            ThreadLocal.withInitial(() -> new KeccakDigest(256));
+
     private Hash() {}
 
     /**
@@ -67,9 +85,24 @@ public class Hash {
      * @return hash value
      */
     public static byte[] sha3(byte[] input, int offset, int length) {
-        Keccak.DigestKeccak kecc = new Keccak.Digest256();
-        kecc.update(input, offset, length);
-        return kecc.digest();
+        byte[] result = new byte[SHA3_LENGTH];
+        sha3(input, offset, length, result, 0);
+        return result;
+    }
+
+    /**
+     * Keccak-256 hash function writing into a caller provided array.
+     *
+     * @param input binary encoded input data
+     * @param offset of start of data
+     * @param length of data
+     * @param output array to write the {@link #SHA3_LENGTH} byte hash value to
+     * @param outputOffset of start of the hash value in output
+     */
+    public static void sha3(byte[] input, int offset, int length, byte[] output, int outputOffset) {
+        KeccakDigest keccak = keccak();
+        keccak.update(input, offset, length);
+        keccak.doFinal(output, outputOffset);
     }
 
     /**
@@ -82,6 +115,181 @@ public class Hash {
         return sha3(input, 0, input.length);
     }
 
+    /**
+     * Keccak-256 hash function over the concatenation of the given inputs, without concatenating
+     * them first.
+     *
+     * @param inputs binary encoded input data
+     * @return hash value
+     */
+    public static byte[] sha3(byte[]... inputs) {
+        KeccakDigest keccak = keccak();
+        for (byte[] input : inputs) {
+            keccak.update(input, 0, input.length);
+        }
+        byte[] result = new byte[SHA3_LENGTH];
+        keccak.doFinal(result, 0);
+        return result;
+    }
+
+    /**
+     * Keccak-256 hash function over the remaining bytes of the given buffers. As with {@link
+     * MessageDigest#update(ByteBuffer)}, the position of each buffer is advanced to its limit.
+     *
+     * @param inputs binary encoded input data
+     * @return hash value
+     */
+    public static byte[] sha3(ByteBuffer... inputs) {
+        KeccakDigest keccak = keccak();
+        byte[] chunk = null;
+        for (ByteBuffer input : inputs) {
+            if (input.hasArray()) {
+                keccak.update(
+                        input.array(), input.arrayOffset() + input.position(), input.remaining());
+                input.position(input.limit());
+            } else {
+                int chunkLength = Math.min(input.remaining(), 4096);
+                if (chunk == null || chunk.length < chunkLength) {
+                    chunk = new byte[chunkLength];
+                }
+                while (input.hasRemaining()) {
+                    int length = Math.min(input.remaining(), chunk.length);
+                    input.get(chunk, 0, length);
+                    keccak.update(chunk, 0, length);
+                }
+            }
+        }
+        byte[] result = new byte[SHA3_LENGTH];
+        keccak.doFinal(result, 0);
+        return result;
+    }
+
+    /**
+     * Keccak-256 hash function applied to each of the given inputs. Large batches are hashed in
+     * parallel, see {@link #sha3Batch(byte[][], byte[][], int, ForkJoinPool)}.
+     *
+     * @param inputs binary encoded input data
+     * @return hash values, in the same order as the inputs
+     */
+    public static List<byte[]> sha3Batch(List<byte[]> inputs) {
+        return sha3Batch(inputs, null);
+    }
+
+    /**
+     * Keccak-256 hash function applied to each of the given inputs. Large batches are hashed in
+     * parallel in the given pool, see {@link #sha3Batch(byte[][], byte[][], int, ForkJoinPool)}.
+     *
+     * @param inputs binary encoded input data
+     * @param pool to hash in, or null
+     * @return hash values, in the same order as the inputs
+     */
+    public static List<byte[]> sha3Batch(List<byte[]> inputs, ForkJoinPool pool) {
+        byte[][] outputs = new byte[inputs.size()][];
+        sha3Batch(inputs.toArray(new byte[0][]), outputs, SHA3_BATCH_THRESHOLD, pool);
+        return Arrays.asList(outputs);
+    }
+
+    /**
+     * Keccak-256 hash function applied to each of the given inputs. Large batches are hashed in
+     * parallel, see {@link #sha3Batch(byte[][], byte[][], int, ForkJoinPool)}.
+     *
+     * @param inputs binary encoded input data
+     * @param outputs arrays to write each hash value to, null elements are allocated
+     */
+    public static void sha3Batch(byte[][] inputs, byte[][] outputs) {
+        sha3Batch(inputs, outputs, SHA3_BATCH_THRESHOLD);
+    }
+
+    /**
+     * Keccak-256 hash function applied to each of the given inputs. Large batches are hashed in
+     * parallel, see {@link #sha3Batch(byte[][], byte[][], int, ForkJoinPool)}.
+     *
+     * @param inputs binary encoded input data
+     * @param outputs arrays to write each hash value to, null elements are allocated
+     * @param threshold maximum number of inputs hashed by a single task
+     */
+    public static void sha3Batch(byte[][] inputs, byte[][] outputs, int threshold) {
+        sha3Batch(inputs, outputs, threshold, null);
+    }
+
+    /**
+     * Keccak-256 hash function applied to each of the given inputs.
+     *
+     * <p>Batches of more than <code>threshold</code> inputs are split into fork-join tasks of at
+     * most <code>threshold</code> inputs each, which run in the given pool, bounding the number of
+     * threads used. If no pool is given they run in the current fork-join pool, or the common pool
+     * if called from outside one. Each worker thread reuses its own digest state.
+     *
+     * @param inputs binary encoded input data
+     * @param outputs arrays to write each hash value to, null elements are allocated
+     * @param threshold maximum number of inputs hashed by a single task
+     * @param pool to hash in, or null
+     */
+    public static void sha3Batch(
+            byte[][] inputs, byte[][] outputs, int threshold, ForkJoinPool pool) {
+        if (outputs.length != inputs.length) {
+            throw new IllegalArgumentException(
+                    "Expected " + inputs.length + " outputs, got " + outputs.length);
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        if (inputs.length <= threshold) {
+            sha3Range(inputs, outputs, 0, inputs.length);
+        } else {
+            Sha3BatchTask task = new Sha3BatchTask(inputs, outputs, 0, inputs.length, threshold);
+            if (pool != null) {
+                pool.invoke(task);
+            } else {
+                task.invoke();
+            }
+        }
+    }
+
+    private static void sha3Range(byte[][] inputs, byte[][] outputs, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (outputs[i] == null) {
+                outputs[i] = new byte[SHA3_LENGTH];
+            }
+            sha3(inputs[i], 0, inputs[i].length, outputs[i], 0);
+        }
+    }
+
+    private static class Sha3BatchTask extends RecursiveAction {
+        private final byte[][] inputs;
+        private final byte[][] outputs;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        Sha3BatchTask(byte[][] inputs, byte[][] outputs, int from, int to, int threshold) {
+            this.inputs = inputs;
+            this.outputs = outputs;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                sha3Range(inputs, outputs, from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new Sha3BatchTask(inputs, outputs, from, middle, threshold),
+                        new Sha3BatchTask(inputs, outputs, middle, to, threshold));
+            }
+        }
+    }
+
+    private static KeccakDigest keccak() {
+        KeccakDigest keccak = KECCAK.get();
+        // discard any state left behind by a call that failed part way through
+        keccak.reset();
+        return keccak;
+    }
+
     /**
      * Keccak-256 hash function that operates on a UTF-8 encoded String.
      *
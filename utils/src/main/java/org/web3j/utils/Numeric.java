@@ -28,6 +28,22 @@ public final class Numeric {
 
     private static final String HEX_PREFIX = "0x";
 
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    // value of each ASCII hex digit, or -1 for any other character
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
     private Numeric() {}
 
     public static String encodeQuantity(BigInteger value) {
@@ -185,44 +201,85 @@ public final class Numeric {
     }
 
     public static byte[] hexStringToByteArray(String input) {
-        String cleanInput = cleanHexPrefix(input);
-
-        int len = cleanInput.length();
+        return hexStringToByteArray(input, 0, input.length(), false);
+    }
 
-        if (len == 0) {
-            return new byte[] {};
+    /**
+     * Decode a region of hex characters into bytes, without copying the region out first. An odd
+     * number of digits is treated as if it had a leading zero.
+     *
+     * @param input containing hex characters with optional 0x prefix
+     * @param offset of the start of the region, which may contain the prefix
+     * @param length of the region in characters
+     * @param validate if true, fail on any character that is not a hex digit, otherwise such
+     *     characters are decoded as -1 as {@link Character#digit(char, int)} would
+     * @return decoded bytes
+     * @throws MessageDecodingException if validate is set and the region contains non hex
+     *     characters
+     */
+    public static byte[] hexStringToByteArray(
+            CharSequence input, int offset, int length, boolean validate) {
+        if (length > 1 && input.charAt(offset) == '0' && input.charAt(offset + 1) == 'x') {
+            offset += 2;
+            length -= 2;
         }
 
-        byte[] data;
-        int startIdx;
-        if (len % 2 != 0) {
-            data = new byte[(len / 2) + 1];
-            data[0] = (byte) Character.digit(cleanInput.charAt(0), 16);
-            startIdx = 1;
-        } else {
-            data = new byte[len / 2];
-            startIdx = 0;
+        byte[] data = new byte[(length + 1) / 2];
+        int position = offset;
+        int index = 0;
+        if (length % 2 != 0) {
+            data[index++] = (byte) digit(input, position++, validate);
         }
 
-        for (int i = startIdx; i < len; i += 2) {
-            data[(i + 1) / 2] =
+        int end = offset + length;
+        while (position < end) {
+            data[index++] =
                     (byte)
-                            ((Character.digit(cleanInput.charAt(i), 16) << 4)
-                                    + Character.digit(cleanInput.charAt(i + 1), 16));
+                            ((digit(input, position, validate) << 4)
+                                    + digit(input, position + 1, validate));
+            position += 2;
         }
         return data;
     }
 
+    private static int digit(CharSequence input, int position, boolean validate) {
+        char c = input.charAt(position);
+        int value = c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+        if (value < 0 && validate) {
+            throw new MessageDecodingException(
+                    "Invalid hex character '" + c + "' at position " + position);
+        }
+        return value;
+    }
+
     public static String toHexString(byte[] input, int offset, int length, boolean withPrefix) {
-        StringBuilder stringBuilder = new StringBuilder();
+        int prefixLength = withPrefix ? HEX_PREFIX.length() : 0;
+        char[] result = new char[prefixLength + length * 2];
         if (withPrefix) {
-            stringBuilder.append("0x");
+            result[0] = '0';
+            result[1] = 'x';
         }
+        toHexChars(input, offset, length, result, prefixLength);
+        return new String(result);
+    }
+
+    /**
+     * Write the lowercase hex characters of a region of bytes into a character array.
+     *
+     * @param input bytes to encode
+     * @param offset of the first byte to encode
+     * @param length number of bytes to encode
+     * @param destination to write the 2 * length characters to
+     * @param destinationOffset of the first character written
+     */
+    public static void toHexChars(
+            byte[] input, int offset, int length, char[] destination, int destinationOffset) {
+        int position = destinationOffset;
         for (int i = offset; i < offset + length; i++) {
-            stringBuilder.append(String.format("%02x", input[i] & 0xFF));
+            int value = input[i] & 0xff;
+            destination[position++] = HEX_CHARS[value >>> 4];
+            destination[position++] = HEX_CHARS[value & 0x0f];
         }
-
-        return stringBuilder.toString();
     }
 
     public static String toHexString(byte[] input) {
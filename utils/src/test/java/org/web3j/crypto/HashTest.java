@@ -12,10 +12,22 @@
  */
 package org.web3j.crypto;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.jupiter.api.Test;
 
+import org.web3j.utils.Numeric;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.web3j.utils.Numeric.asByte;
 
 public class HashTest {
@@ -99,6 +111,75 @@ public class HashTest {
                 ("0x953d0c27f84a9649b0e121099ffa9aeb7ed83e65eaed41d3627f895790c72d41"));
     }
 
+    @Test
+    public void testSha3MultiPart() {
+        byte[] hello = "hello ".getBytes(StandardCharsets.UTF_8);
+        byte[] world = "world".getBytes(StandardCharsets.UTF_8);
+        byte[] expected =
+                Numeric.hexStringToByteArray(
+                        "0x47173285a8d7341e5e972fc677286384f802f8ef42a5ec5f03bbfa254cb01fad");
+
+        assertArrayEquals(Hash.sha3(hello, world), (expected));
+        assertArrayEquals(Hash.sha3(new byte[] {}, hello, new byte[] {}, world), (expected));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(world.length);
+        direct.put(world).flip();
+        ByteBuffer heap = ByteBuffer.wrap("xhello y".getBytes(StandardCharsets.UTF_8), 1, 6);
+        assertArrayEquals(Hash.sha3(heap.slice(), direct), (expected));
+        assertEquals(direct.remaining(), (0));
+
+        byte[] output = new byte[34];
+        byte[] input = "hello world".getBytes(StandardCharsets.UTF_8);
+        Hash.sha3(input, 0, input.length, output, 1);
+        assertArrayEquals(Arrays.copyOfRange(output, 1, 33), (expected));
+    }
+
+    @Test
+    public void testSha3Batch() {
+        Random random = new Random(42);
+        List<byte[]> inputs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            byte[] input = new byte[random.nextInt(200)];
+            random.nextBytes(input);
+            inputs.add(input);
+        }
+
+        List<byte[]> results = Hash.sha3Batch(inputs);
+        assertEquals(results.size(), (inputs.size()));
+        for (int i = 0; i < inputs.size(); i++) {
+            assertArrayEquals(results.get(i), (Hash.sha3(inputs.get(i))));
+        }
+
+        byte[][] outputs = new byte[inputs.size()][];
+        byte[] preallocated = new byte[Hash.SHA3_LENGTH];
+        outputs[7] = preallocated;
+        Hash.sha3Batch(inputs.toArray(new byte[0][]), outputs, 3);
+        assertSame(outputs[7], (preallocated));
+        for (int i = 0; i < inputs.size(); i++) {
+            assertArrayEquals(outputs[i], (results.get(i)));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            byte[][] pooledOutputs = new byte[inputs.size()][];
+            Hash.sha3Batch(inputs.toArray(new byte[0][]), pooledOutputs, 3, pool);
+            for (int i = 0; i < inputs.size(); i++) {
+                assertArrayEquals(pooledOutputs[i], (results.get(i)));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSha3BatchInvalidArguments() {
+        assertThrows(
+                IllegalArgumentException.class, () -> Hash.sha3Batch(new byte[2][], new byte[1][]));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> Hash.sha3Batch(new byte[1][], new byte[1][], 0));
+    }
+
     @Test
     public void testByte() {
         assertEquals(asByte(0x0, 0x0), ((byte) 0x0));
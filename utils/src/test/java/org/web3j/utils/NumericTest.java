@@ -173,11 +173,44 @@ public class NumericTest {
         assertArrayEquals(Numeric.hexStringToByteArray("0x123"), (new byte[] {0x1, 0x23}));
     }
 
+    @Test
+    public void testHexStringToByteArrayRegion() {
+        assertArrayEquals(
+                Numeric.hexStringToByteArray("zz0x0aFfzz", 2, 6, true),
+                (new byte[] {0x0a, (byte) 0xff}));
+        assertArrayEquals(
+                Numeric.hexStringToByteArray(new StringBuilder("ab123"), 2, 3, true),
+                (new byte[] {0x1, 0x23}));
+        assertArrayEquals(Numeric.hexStringToByteArray("0x", 0, 2, true), (new byte[] {}));
+        assertArrayEquals(
+                Numeric.hexStringToByteArray(HEX_RANGE_STRING, 0, HEX_RANGE_STRING.length(), true),
+                (HEX_RANGE_ARRAY));
+    }
+
+    @Test
+    public void testHexStringToByteArrayValidation() {
+        assertThrows(
+                MessageDecodingException.class,
+                () -> Numeric.hexStringToByteArray("0x0g", 0, 4, true));
+        assertThrows(
+                MessageDecodingException.class,
+                () -> Numeric.hexStringToByteArray("0x\u00e9", 0, 3, true));
+        assertArrayEquals(
+                Numeric.hexStringToByteArray("0x0g", 0, 4, false), (new byte[] {(byte) -1}));
+    }
+
     @Test
     public void testToHexString() {
         assertEquals(Numeric.toHexString(new byte[] {}), ("0x"));
         assertEquals(Numeric.toHexString(new byte[] {0x1}), ("0x01"));
         assertEquals(Numeric.toHexString(HEX_RANGE_ARRAY), (HEX_RANGE_STRING));
+        assertEquals(
+                Numeric.toHexString(new byte[] {0x1, (byte) 0xab, (byte) 0xcd, 0x2}, 1, 2, false),
+                ("abcd"));
+
+        char[] chars = new char[6];
+        Numeric.toHexChars(new byte[] {(byte) 0xf0, 0x0f}, 0, 2, chars, 1);
+        assertArrayEquals(chars, (new char[] {0, 'f', '0', '0', 'f', 0}));
     }
 
     @Test